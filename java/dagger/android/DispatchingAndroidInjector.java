@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -51,6 +52,12 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
 
   private final Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactories;
 
+  // The injector factories that have been looked up so far, keyed by class. Repeated injections of
+  // the same class are served from this map, which compares classes by identity, rather than by
+  // looking up the class's name in injectorFactories.
+  private final Map<Class<?>, Provider<AndroidInjector.Factory<?>>> injectorFactoriesByClass =
+      new ConcurrentHashMap<>();
+
   @Inject
   DispatchingAndroidInjector(
       Map<Class<?>, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithClassKeys,
@@ -97,8 +104,7 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
    */
   @CanIgnoreReturnValue
   public boolean maybeInject(T instance) {
-    Provider<AndroidInjector.Factory<?>> factoryProvider =
-        injectorFactories.get(instance.getClass().getName());
+    Provider<AndroidInjector.Factory<?>> factoryProvider = injectorFactory(instance.getClass());
     if (factoryProvider == null) {
       return false;
     }
@@ -121,6 +127,17 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
     }
   }
 
+  private Provider<AndroidInjector.Factory<?>> injectorFactory(Class<?> clazz) {
+    Provider<AndroidInjector.Factory<?>> factoryProvider = injectorFactoriesByClass.get(clazz);
+    if (factoryProvider == null) {
+      factoryProvider = injectorFactories.get(clazz.getName());
+      if (factoryProvider != null) {
+        injectorFactoriesByClass.put(clazz, factoryProvider);
+      }
+    }
+    return factoryProvider;
+  }
+
   /**
    * Performs members-injection on {@code instance}.
    *
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.android;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a View annotated with {@link AndroidEntryPoint} be injected from the component of the
+ * Activity or Fragment it is attached to, rather than from a {@code ViewComponent} of its own.
+ *
+ * <p>By default, every view annotated with {@literal @}AndroidEntryPoint builds its own view
+ * component when it is injected. Views that don't need view bindings can use this annotation to
+ * skip building that component, e.g. views that are inflated many times in a list. Such views
+ * can't depend on the {@code View} binding or on {@code @ViewScoped} bindings, which is checked
+ * when the Hilt components are generated. If the view is also annotated with {@link
+ * WithFragmentBindings}, it is injected from the component of its Fragment.
+ */
+@Target({ElementType.TYPE})
+public @interface WithoutViewComponent {}
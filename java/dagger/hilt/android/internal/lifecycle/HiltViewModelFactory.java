@@ -109,59 +109,61 @@ public final class HiltViewModelFactory implements ViewModelProvider.Factory {
               @NonNull ViewModelComponent component,
               @NonNull Class<T> modelClass,
               @NonNull CreationExtras extras) {
-            Provider<? extends ViewModel> provider =
-                EntryPoints.get(component, ViewModelFactoriesEntryPoint.class)
-                    .getHiltViewModelMap()
-                    .get(modelClass);
+            // A ViewModel without a creation callback is looked up in the map of providers first,
+            // which it is expected to be in. The map of assisted factories is a LazyClassKeyMap,
+            // which only supports lookups by key, so it is checked with containsKey().
+            ViewModelFactoriesEntryPoint entryPoint =
+                EntryPoints.get(component, ViewModelFactoriesEntryPoint.class);
             Function1<Object, ViewModel> creationCallback = extras.get(CREATION_CALLBACK_KEY);
-            Object assistedFactory =
-                EntryPoints.get(component, ViewModelFactoriesEntryPoint.class)
-                    .getHiltViewModelAssistedMap()
-                    .get(modelClass);
-
-            if (assistedFactory == null) {
-              if (creationCallback == null) {
-                if (provider == null) {
-                  throw new IllegalStateException(
-                      "Expected the @HiltViewModel-annotated class "
-                          + modelClass.getName()
-                          + " to be available in the multi-binding of "
-                          + "@HiltViewModelMap"
-                          + " but none was found.");
-                } else {
-                  return (T) provider.get();
+
+            if (creationCallback == null) {
+              Provider<? extends ViewModel> provider =
+                  entryPoint.getHiltViewModelMap().get(modelClass);
+              if (provider != null) {
+                if (entryPoint.getHiltViewModelAssistedMap().containsKey(modelClass)) {
+                  throw bothMapsError(modelClass);
                 }
-              } else {
+                return (T) provider.get();
+              }
+              if (entryPoint.getHiltViewModelAssistedMap().containsKey(modelClass)) {
+                throw new IllegalStateException(
+                    "Found @HiltViewModel-annotated class "
+                        + modelClass.getName()
+                        + " using @AssistedInject but no creation callback"
+                        + " was provided in CreationExtras.");
+              }
+              throw new IllegalStateException(
+                  "Expected the @HiltViewModel-annotated class "
+                      + modelClass.getName()
+                      + " to be available in the multi-binding of "
+                      + "@HiltViewModelMap"
+                      + " but none was found.");
+            } else {
+              Object assistedFactory = entryPoint.getHiltViewModelAssistedMap().get(modelClass);
+              if (assistedFactory == null) {
                 // Provider could be null or non-null.
                 throw new IllegalStateException(
                     "Found creation callback but class "
                         + modelClass.getName()
                         + " does not have an assisted factory specified in @HiltViewModel.");
               }
-            } else {
-              if (provider == null) {
-                if (creationCallback == null) {
-                  throw new IllegalStateException(
-                      "Found @HiltViewModel-annotated class "
-                          + modelClass.getName()
-                          + " using @AssistedInject but no creation callback"
-                          + " was provided in CreationExtras.");
-                } else {
-                  return (T) creationCallback.invoke(assistedFactory);
-                }
-              } else {
-                // Creation callback could be null or non-null.
-                throw new AssertionError(
-                    "Found the @HiltViewModel-annotated class "
-                        + modelClass.getName()
-                        + " in both the multi-bindings of "
-                        + "@HiltViewModelMap and @HiltViewModelAssistedMap.");
+              if (entryPoint.getHiltViewModelMap().containsKey(modelClass)) {
+                throw bothMapsError(modelClass);
               }
+              return (T) creationCallback.invoke(assistedFactory);
             }
           }
         };
   }
 
+  private static AssertionError bothMapsError(Class<?> modelClass) {
+    return new AssertionError(
+        "Found the @HiltViewModel-annotated class "
+            + modelClass.getName()
+            + " in both the multi-bindings of "
+            + "@HiltViewModelMap and @HiltViewModelAssistedMap.");
+  }
+
   @NonNull
   @Override
   public <T extends ViewModel> T create(
@@ -62,11 +62,24 @@ public final class ViewComponentManager implements GeneratedComponentManager<Obj
   private volatile Object component;
   private final Object componentLock = new Object();
   private final boolean hasFragmentBindings;
+  private final boolean useParentComponent;
   private final View view;
 
   public ViewComponentManager(View view, boolean hasFragmentBindings) {
+    this(view, hasFragmentBindings, /* useParentComponent= */ false);
+  }
+
+  /**
+   * Creates a manager for the component of {@code view}.
+   *
+   * <p>If {@code useParentComponent} is {@code true}, no view component is built and the view is
+   * injected from the component of its Fragment or Activity. This is used for views annotated with
+   * {@code @WithoutViewComponent}, whose injectors are installed in that component.
+   */
+  public ViewComponentManager(View view, boolean hasFragmentBindings, boolean useParentComponent) {
     this.view = view;
     this.hasFragmentBindings = hasFragmentBindings;
+    this.useParentComponent = useParentComponent;
   }
 
   @Override
@@ -74,7 +87,10 @@ public final class ViewComponentManager implements GeneratedComponentManager<Obj
     if (component == null) {
       synchronized (componentLock) {
         if (component == null) {
-          component = createComponent();
+          component =
+              useParentComponent
+                  ? getParentComponentManager(/*allowMissing=*/ false).generatedComponent()
+                  : createComponent();
         }
       }
     }
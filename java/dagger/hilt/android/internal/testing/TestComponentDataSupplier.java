@@ -17,14 +17,33 @@
 package dagger.hilt.android.internal.testing;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Stores the {@link TestComponentData} for a Hilt test class. */
 public abstract class TestComponentDataSupplier {
 
+  // The generated suppliers return immutable data, so the reflective lookup is done only once per
+  // test class rather than once per test method.
+  private static final Map<Class<?>, TestComponentData> testComponentDataCache =
+      new ConcurrentHashMap<>();
+
   /** Returns a {@link TestComponentData}. */
   protected abstract TestComponentData get();
 
   static TestComponentData get(Class<?> testClass) {
+    TestComponentData testComponentData = testComponentDataCache.get(testClass);
+    if (testComponentData == null) {
+      testComponentData = load(testClass);
+      TestComponentData existing = testComponentDataCache.putIfAbsent(testClass, testComponentData);
+      if (existing != null) {
+        testComponentData = existing;
+      }
+    }
+    return testComponentData;
+  }
+
+  private static TestComponentData load(Class<?> testClass) {
     String generatedClassName = getEnclosedClassName(testClass) + "_TestComponentDataSupplier";
     try {
       return Class.forName(generatedClassName)
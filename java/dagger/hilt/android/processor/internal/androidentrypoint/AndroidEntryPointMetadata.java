@@ -412,6 +412,18 @@ public abstract class AndroidEntryPointMetadata {
             AndroidType.VIEW,
             AndroidClassNames.VIEW_COMPONENT_MANAGER,
             CodeBlock.of("this, false /* hasFragmentBindings */"));
+    private static final Type VIEW_IN_FRAGMENT_COMPONENT =
+        new Type(
+            AndroidClassNames.FRAGMENT_COMPONENT,
+            AndroidType.VIEW,
+            AndroidClassNames.VIEW_COMPONENT_MANAGER,
+            CodeBlock.of("this, true /* hasFragmentBindings */, true /* useParentComponent */"));
+    private static final Type VIEW_IN_ACTIVITY_COMPONENT =
+        new Type(
+            AndroidClassNames.ACTIVITY_COMPONENT,
+            AndroidType.VIEW,
+            AndroidClassNames.VIEW_COMPONENT_MANAGER,
+            CodeBlock.of("this, false /* hasFragmentBindings */, true /* useParentComponent */"));
 
     final ClassName component;
     final AndroidType androidType;
@@ -445,6 +457,11 @@ public abstract class AndroidEntryPointMetadata {
     }
 
     private static Type forAndroidEntryPoint(XTypeElement element, XTypeElement baseElement) {
+      ProcessorErrors.checkState(
+          !element.hasAnnotation(AndroidClassNames.WITHOUT_VIEW_COMPONENT)
+              || Processors.isAssignableFrom(baseElement, AndroidClassNames.VIEW),
+          element,
+          "@WithoutViewComponent can only be used on @AndroidEntryPoint views.");
       if (Processors.isAssignableFrom(baseElement, AndroidClassNames.ACTIVITY)) {
         ProcessorErrors.checkState(
             Processors.isAssignableFrom(baseElement, AndroidClassNames.COMPONENT_ACTIVITY),
@@ -463,6 +480,13 @@ public abstract class AndroidEntryPointMetadata {
       } else if (Processors.isAssignableFrom(baseElement, AndroidClassNames.VIEW)) {
         boolean withFragmentBindings =
             element.hasAnnotation(AndroidClassNames.WITH_FRAGMENT_BINDINGS);
+        if (element.hasAnnotation(AndroidClassNames.WITHOUT_VIEW_COMPONENT)) {
+          // The injector is installed in the parent component, so Dagger reports an error if the
+          // view depends on the View binding or on a @ViewScoped binding.
+          return withFragmentBindings
+              ? Type.VIEW_IN_FRAGMENT_COMPONENT
+              : Type.VIEW_IN_ACTIVITY_COMPONENT;
+        }
         return withFragmentBindings ? Type.VIEW : Type.VIEW_NO_FRAGMENT;
       } else if (Processors.isAssignableFrom(baseElement, AndroidClassNames.APPLICATION)) {
         throw new BadInputException(
@@ -480,6 +504,7 @@ public abstract class AndroidEntryPointMetadata {
       XTypeElement element, AndroidEntryPointMetadata baseMetadata) {
     XTypeElement baseElement = baseMetadata.element();
     checkAnnotationsMatch(element, baseElement, AndroidClassNames.WITH_FRAGMENT_BINDINGS);
+    checkAnnotationsMatch(element, baseElement, AndroidClassNames.WITHOUT_VIEW_COMPONENT);
 
     ProcessorErrors.checkState(
         baseMetadata.allowsOptionalInjection()
@@ -59,8 +59,23 @@ public final class AggregatedElements {
   /** Returns all aggregated elements in the aggregating package after validating them. */
   public static ImmutableSet<XTypeElement> from(
       String aggregatingPackage, ClassName aggregatingAnnotation, XProcessingEnv env) {
+    return from(aggregatingPackage, aggregatingAnnotation, ImmutableSet.of(), env);
+  }
+
+  /**
+   * Returns all aggregated elements in the aggregating package other than {@code
+   * excludedElements}, after validating them.
+   *
+   * <p>Excluded elements are filtered out by name, so they are never loaded.
+   */
+  public static ImmutableSet<XTypeElement> from(
+      String aggregatingPackage,
+      ClassName aggregatingAnnotation,
+      ImmutableSet<ClassName> excludedElements,
+      XProcessingEnv env) {
     ImmutableSet<XTypeElement> aggregatedElements =
         env.getTypeElementsFromPackage(aggregatingPackage).stream()
+            .filter(element -> !excludedElements.contains(element.getClassName()))
             // We're only interested in returning the original deps here. Proxies will be generated
             // (if needed) and swapped just before generating @ComponentTreeDeps.
             .filter(element -> !element.hasAnnotation(ClassNames.AGGREGATED_ELEMENT_PROXY))
@@ -53,6 +53,8 @@ public final class ClassNames {
       get("dagger.hilt.codegen", "OriginatingElement");
   public static final ClassName AGGREGATED_DEPS =
       get("dagger.hilt.processor.internal.aggregateddeps", "AggregatedDeps");
+  public static final ClassName AGGREGATED_DEPS_INDEX =
+      get("dagger.hilt.processor.internal.aggregateddeps", "AggregatedDepsIndex");
   public static final ClassName GENERATED_COMPONENT =
       get("dagger.hilt.internal", "GeneratedComponent");
   public static final ClassName GENERATED_COMPONENT_MANAGER =
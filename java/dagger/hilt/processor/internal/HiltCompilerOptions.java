@@ -102,6 +102,18 @@ public final class HiltCompilerOptions {
     return GRADLE_PROJECT_TYPE.get(env);
   }
 
+  /**
+   * Returns {@code true} if the aggregated deps of each processing round should also be written to
+   * a single index class, which lets the root read them without loading a class per dependency
+   * (default is {@code false}).
+   *
+   * <p>Note that the index is generated from all of the dependencies processed in a round, so under
+   * Gradle's incremental annotation processing it causes a full recompilation of the module.
+   */
+  public static boolean isAggregatedDepsIndexEnabled(XProcessingEnv env) {
+    return AGGREGATED_DEPS_INDEX.get(env) == BooleanValue.TRUE;
+  }
+
   public static boolean isAssistedInjectViewModelsEnabled(XTypeElement viewModelElement) {
     boolean enabled =
         ENABLE_ASSISTED_INJECT_VIEWMODELS.get(XConverters.getProcessingEnv(viewModelElement))
@@ -132,6 +144,9 @@ public final class HiltCompilerOptions {
   private static final EnumOption<GradleProjectType> GRADLE_PROJECT_TYPE =
       new EnumOption<>("android.internal.projectType", GradleProjectType.UNSET);
 
+  private static final EnumOption<BooleanValue> AGGREGATED_DEPS_INDEX =
+      new EnumOption<>("aggregatedDepsIndex", BooleanValue.FALSE);
+
   private static final EnumOption<BooleanValue> ENABLE_ASSISTED_INJECT_VIEWMODELS =
       new EnumOption<>(
           "enableAssistedInjectViewModels", BooleanValue.TRUE );
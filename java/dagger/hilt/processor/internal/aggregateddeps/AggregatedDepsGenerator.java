@@ -56,7 +56,17 @@ final class AggregatedDepsGenerator {
         AGGREGATING_PACKAGE, aggregatedDepsAnnotation(), dependency, getClass());
   }
 
-  private AnnotationSpec aggregatedDepsAnnotation() {
+  /** Returns the dependency this generator aggregates. */
+  XTypeElement dependency() {
+    return dependency;
+  }
+
+  /** Returns the name of the class written by {@link #generate()}. */
+  ClassName aggregatingClassName() {
+    return ClassName.get(AGGREGATING_PACKAGE, "_" + Processors.getFullEnclosedName(dependency));
+  }
+
+  AnnotationSpec aggregatedDepsAnnotation() {
     AnnotationSpec.Builder annotationBuilder = AnnotationSpec.builder(AGGREGATED_DEPS);
     components.forEach(component -> annotationBuilder.addMember("components", "$S", component));
     replacedDependencies.forEach(dep -> annotationBuilder.addMember("replaces", "$S", dep));
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.processor.internal.aggregateddeps;
+
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+import java.lang.annotation.Retention;
+
+/**
+ * Annotation for propagating the {@link AggregatedDeps} of several classes through javac runs in a
+ * single class.
+ */
+@Retention(CLASS)
+public @interface AggregatedDepsIndex {
+  /** Returns the names of the {@link AggregatedDeps}-annotated classes in this index. */
+  String[] aggregatedDeps();
+
+  /** Returns the {@link AggregatedDeps} of each class in {@link #aggregatedDeps()}, in order. */
+  AggregatedDeps[] deps();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.processor.internal.aggregateddeps;
+
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+import androidx.room.compiler.processing.JavaPoetExtKt;
+import androidx.room.compiler.processing.XFiler.Mode;
+import androidx.room.compiler.processing.XProcessingEnv;
+import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import dagger.hilt.processor.internal.ClassNames;
+import dagger.hilt.processor.internal.Processors;
+import java.util.Comparator;
+
+/**
+ * Generates the @AggregatedDepsIndex annotated class that records the @AggregatedDeps classes
+ * generated in a processing round, so that the root can read them all from a single class.
+ */
+final class AggregatedDepsIndexGenerator {
+  static final String AGGREGATING_PACKAGE = "hilt_aggregated_deps_index";
+
+  private final XProcessingEnv env;
+  private final ImmutableList<AggregatedDepsGenerator> generators;
+
+  AggregatedDepsIndexGenerator(
+      XProcessingEnv env, ImmutableList<AggregatedDepsGenerator> generators) {
+    this.env = env;
+    this.generators =
+        ImmutableList.sortedCopyOf(
+            Comparator.comparing(AggregatedDepsGenerator::aggregatingClassName), generators);
+  }
+
+  // This method creates the following generated code for the @AggregatedDeps classes
+  // hilt_aggregated_deps._pkg_FooModule and hilt_aggregated_deps._pkg_FooEntryPoint:
+  //
+  // package hilt_aggregated_deps_index;
+  //
+  // @AggregatedDepsIndex(
+  //     aggregatedDeps = {
+  //         "hilt_aggregated_deps._pkg_FooEntryPoint",
+  //         "hilt_aggregated_deps._pkg_FooModule"
+  //     },
+  //     deps = {@AggregatedDeps(...), @AggregatedDeps(...)})
+  // public class _pkg_FooEntryPoint {}
+  void generate() {
+    // The @AggregatedDeps class names are unique, so naming the index after the first one keeps
+    // the index names unique across compilations.
+    ClassName name =
+        ClassName.get(AGGREGATING_PACKAGE, generators.get(0).aggregatingClassName().simpleName());
+    AnnotationSpec.Builder indexAnnotation =
+        AnnotationSpec.builder(ClassNames.AGGREGATED_DEPS_INDEX);
+    for (AggregatedDepsGenerator generator : generators) {
+      indexAnnotation
+          .addMember("aggregatedDeps", "$S", generator.aggregatingClassName())
+          .addMember("deps", "$L", generator.aggregatedDepsAnnotation());
+    }
+    TypeSpec.Builder builder =
+        TypeSpec.classBuilder(name)
+            .addModifiers(PUBLIC)
+            .addAnnotation(indexAnnotation.build())
+            .addJavadoc("This class should only be referenced by generated code! ")
+            .addJavadoc("This class aggregates information across multiple compilations.\n");
+    generators.forEach(
+        generator -> JavaPoetExtKt.addOriginatingElement(builder, generator.dependency()));
+    Processors.addGeneratedAnnotation(builder, env, getClass());
+
+    env.getFiler()
+        .write(JavaFile.builder(name.packageName(), builder.build()).build(), Mode.Aggregating);
+  }
+}
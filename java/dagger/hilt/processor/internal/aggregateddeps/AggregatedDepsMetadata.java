@@ -32,6 +32,9 @@ import com.squareup.javapoet.ClassName;
 import dagger.hilt.processor.internal.AggregatedElements;
 import dagger.hilt.processor.internal.ClassNames;
 import dagger.hilt.processor.internal.root.ir.AggregatedDepsIr;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,6 +45,7 @@ import java.util.stream.Collectors;
 @AutoValue
 public abstract class AggregatedDepsMetadata {
   private static final String AGGREGATED_DEPS_PACKAGE = "hilt_aggregated_deps";
+  private static final String AGGREGATED_DEPS_INDEX_PACKAGE = "hilt_aggregated_deps_index";
 
   enum DependencyType {
     MODULE,
@@ -79,6 +83,71 @@ public abstract class AggregatedDepsMetadata {
         .collect(toImmutableSet());
   }
 
+  /**
+   * Returns the IR of all aggregated elements in the aggregating package.
+   *
+   * <p>The IR of elements recorded in an {@link AggregatedDepsIndex} is read from the index, so
+   * neither the elements nor the types they reference need to be loaded.
+   */
+  public static ImmutableSet<AggregatedDepsIr> irsFrom(XProcessingEnv env) {
+    Map<ClassName, AggregatedDepsIr> indexedIrs = new LinkedHashMap<>();
+    for (XTypeElement index :
+        AggregatedElements.from(
+            AGGREGATED_DEPS_INDEX_PACKAGE, ClassNames.AGGREGATED_DEPS_INDEX, env)) {
+      XAnnotation annotation = index.getAnnotation(ClassNames.AGGREGATED_DEPS_INDEX);
+      List<String> aggregatedDeps = annotation.getAsStringList("aggregatedDeps");
+      List<XAnnotation> deps = annotation.getAsAnnotationList("deps");
+      checkState(
+          aggregatedDeps.size() == deps.size(),
+          "Malformed @AggregatedDepsIndex on %s",
+          index.getClassName().canonicalName());
+      for (int i = 0; i < aggregatedDeps.size(); i++) {
+        ClassName aggregatedDep = aggregatedDepsClassName(aggregatedDeps.get(i));
+        indexedIrs.put(aggregatedDep, toIr(aggregatedDep, deps.get(i)));
+      }
+    }
+    return ImmutableSet.<AggregatedDepsIr>builder()
+        .addAll(indexedIrs.values())
+        .addAll(
+            from(
+                    AggregatedElements.from(
+                        AGGREGATED_DEPS_PACKAGE,
+                        ClassNames.AGGREGATED_DEPS,
+                        ImmutableSet.copyOf(indexedIrs.keySet()),
+                        env))
+                .stream()
+                .map(AggregatedDepsMetadata::toIr)
+                .collect(toImmutableSet()))
+        .build();
+  }
+
+  private static ClassName aggregatedDepsClassName(String canonicalName) {
+    checkState(
+        canonicalName.startsWith(AGGREGATED_DEPS_PACKAGE + "."),
+        "Expected %s to be in the %s package",
+        canonicalName,
+        AGGREGATED_DEPS_PACKAGE);
+    return ClassName.get(
+        AGGREGATED_DEPS_PACKAGE, canonicalName.substring(AGGREGATED_DEPS_PACKAGE.length() + 1));
+  }
+
+  private static AggregatedDepsIr toIr(ClassName aggregatedDep, XAnnotation annotation) {
+    String test = annotation.getAsString("test");
+    return new AggregatedDepsIr(
+        aggregatedDep,
+        annotation.getAsStringList("components"),
+        test.isEmpty() ? null : test,
+        annotation.getAsStringList("replaces"),
+        getOnlyValue(annotation, "modules"),
+        getOnlyValue(annotation, "entryPoints"),
+        getOnlyValue(annotation, "componentEntryPoints"));
+  }
+
+  private static String getOnlyValue(XAnnotation annotation, String name) {
+    List<String> values = annotation.getAsStringList(name);
+    return values.isEmpty() ? null : getOnlyElement(values);
+  }
+
   public static AggregatedDepsIr toIr(AggregatedDepsMetadata metadata) {
     return new AggregatedDepsIr(
         metadata.aggregatingElement().getClassName(),
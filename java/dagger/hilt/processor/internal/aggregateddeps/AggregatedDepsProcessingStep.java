@@ -17,6 +17,7 @@
 package dagger.hilt.processor.internal.aggregateddeps;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static dagger.hilt.processor.internal.HiltCompilerOptions.isAggregatedDepsIndexEnabled;
 import static dagger.hilt.processor.internal.HiltCompilerOptions.isModuleInstallInCheckDisabled;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
@@ -27,6 +28,7 @@ import androidx.room.compiler.processing.XElementKt;
 import androidx.room.compiler.processing.XExecutableElement;
 import androidx.room.compiler.processing.XMethodElement;
 import androidx.room.compiler.processing.XProcessingEnv;
+import androidx.room.compiler.processing.XRoundEnv;
 import androidx.room.compiler.processing.XTypeElement;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -38,7 +40,9 @@ import dagger.hilt.processor.internal.ProcessorErrors;
 import dagger.hilt.processor.internal.Processors;
 import dagger.internal.codegen.extension.DaggerStreams;
 import dagger.internal.codegen.xprocessing.XElements;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -60,6 +64,9 @@ public final class AggregatedDepsProcessingStep extends BaseProcessingStep {
       ImmutableSet.of(ClassNames.INSTALL_IN, ClassNames.TEST_INSTALL_IN);
 
   private final Set<XElement> seen = new HashSet<>();
+  // The @AggregatedDeps generated in the current round, which are also written to an index when
+  // the aggregated deps index is enabled.
+  private final List<AggregatedDepsGenerator> generatorsInRound = new ArrayList<>();
 
   public AggregatedDepsProcessingStep(XProcessingEnv env) {
     super(env);
@@ -112,6 +119,14 @@ public final class AggregatedDepsProcessingStep extends BaseProcessingStep {
     }
   }
 
+  @Override
+  protected void postProcess(XProcessingEnv env, XRoundEnv round) {
+    if (!generatorsInRound.isEmpty()) {
+      new AggregatedDepsIndexGenerator(env, ImmutableList.copyOf(generatorsInRound)).generate();
+      generatorsInRound.clear();
+    }
+  }
+
   private void processModule(
       XElement element, Optional<ClassName> installInAnnotation, ClassName moduleAnnotation)
       throws Exception {
@@ -348,7 +363,12 @@ public final class AggregatedDepsProcessingStep extends BaseProcessingStep {
       } else {
         Optional<ClassName> testName =
             Processors.getOriginatingTestElement(element).map(XTypeElement::getClassName);
-        new AggregatedDepsGenerator(key, element, testName, components, replacedModules).generate();
+        AggregatedDepsGenerator generator =
+            new AggregatedDepsGenerator(key, element, testName, components, replacedModules);
+        generator.generate();
+        if (isAggregatedDepsIndexEnabled(processingEnv())) {
+          generatorsInRound.add(generator);
+        }
       }
     }
   }
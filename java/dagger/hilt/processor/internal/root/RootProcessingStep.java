@@ -171,10 +171,7 @@ public final class RootProcessingStep extends BaseProcessingStep {
         AliasOfPropagatedDataMetadata.from(processingEnv()).stream()
             .map(AliasOfPropagatedDataMetadata::toIr)
             .collect(toImmutableSet());
-    ImmutableSet<AggregatedDepsIr> aggregatedDeps =
-        AggregatedDepsMetadata.from(processingEnv()).stream()
-            .map(AggregatedDepsMetadata::toIr)
-            .collect(toImmutableSet());
+    ImmutableSet<AggregatedDepsIr> aggregatedDeps = AggregatedDepsMetadata.irsFrom(processingEnv());
     ImmutableSet<AggregatedUninstallModulesIr> aggregatedUninstallModulesDeps =
         AggregatedUninstallModulesMetadata.from(processingEnv()).stream()
             .map(AggregatedUninstallModulesMetadata::toIr)
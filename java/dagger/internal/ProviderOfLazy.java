@@ -46,10 +46,20 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
    * Creates a new {@link Provider Provider&lt;Lazy&lt;T&gt;&gt;} that decorates the given
    * {@link Provider}.
    *
+   * <p>If the given provider is already a {@link Lazy} (as it is for scoped bindings), the
+   * returned provider always returns that same {@link Lazy} instead of decorating it on every call.
+   *
    * @see #get()
    */
   public static <T> Provider<Lazy<T>> create(Provider<T> provider) {
-    return new ProviderOfLazy<T>(checkNotNull(provider));
+    checkNotNull(provider);
+    if (provider instanceof Lazy) {
+      // See the note in DoubleCheck.lazy() about Provider<P> implementing Lazy<L>.
+      @SuppressWarnings("unchecked")
+      Lazy<T> lazy = (Lazy<T>) provider;
+      return InstanceFactory.create(lazy);
+    }
+    return new ProviderOfLazy<T>(provider);
   }
 
   /**
@@ -30,12 +30,14 @@ import dagger.Component;
 import dagger.Module;
 import dagger.Provides;
 import dagger.internal.codegen.base.ClearableCache;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.SourceFileGenerationException;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.SourceFileHjarGenerator;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.InjectBindingRegistry;
+import dagger.internal.codegen.binding.KeyFactory;
 import dagger.internal.codegen.binding.MembersInjectionBinding;
 import dagger.internal.codegen.binding.ModuleDescriptor;
 import dagger.internal.codegen.binding.MonitoringModules;
@@ -79,6 +81,8 @@ final class DelegateComponentProcessor {
   @Inject ValidationBindingGraphPlugins validationBindingGraphPlugins;
   @Inject ExternalBindingGraphPlugins externalBindingGraphPlugins;
   @Inject Set<ClearableCache> clearableCaches;
+  @Inject CompilerOptions compilerOptions;
+  @Inject ProcessingStatistics processingStatistics;
 
   public void initialize(
       XProcessingEnv env,
@@ -131,6 +135,9 @@ final class DelegateComponentProcessor {
     } else {
       validationBindingGraphPlugins.endPlugins();
       externalBindingGraphPlugins.endPlugins();
+      if (compilerOptions.reportProcessingStatistics()) {
+        env.getMessager().printMessage(Kind.NOTE, processingStatistics.report());
+      }
     }
     clearableCaches.forEach(ClearableCache::clearCache);
   }
@@ -171,6 +178,10 @@ final class DelegateComponentProcessor {
     @IntoSet
     ClearableCache injectValidator(InjectValidator cache);
 
+    @Binds
+    @IntoSet
+    ClearableCache keyFactory(KeyFactory cache);
+
     @Binds
     @IntoSet
     ClearableCache moduleDescriptorFactory(ModuleDescriptor.Factory cache);
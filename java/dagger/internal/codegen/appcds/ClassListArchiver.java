@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.appcds;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds a class data sharing archive from the class lists that Dagger writes for root components
+ * with {@code -Adagger.componentClassList=enabled}.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * java -jar ClassListArchiver_deploy.jar \
+ *     --classpath app.jar:dagger.jar \
+ *     --output app.jsa \
+ *     com.example.DaggerAppComponent
+ * </pre>
+ *
+ * <p>The class lists of the given generated components are read from the classpath and merged
+ * with the default class list of the JDK, if it has one. The archive is then dumped by running
+ * {@code java -Xshare:dump} with the merged list, and can be used at runtime with {@code
+ * -XX:SharedArchiveFile=app.jsa} and the same classpath.
+ */
+public final class ClassListArchiver {
+  private static final String USAGE =
+      "Usage: ClassListArchiver --classpath <classpath> --output <archive> [--java <java>]"
+          + " <generated component>...";
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    String classpath = null;
+    String output = null;
+    String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    List<String> components = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--classpath":
+          classpath = argumentValue(args, ++i);
+          break;
+        case "--output":
+          output = argumentValue(args, ++i);
+          break;
+        case "--java":
+          java = argumentValue(args, ++i);
+          break;
+        default:
+          components.add(args[i]);
+      }
+    }
+    if (classpath == null || output == null || components.isEmpty()) {
+      throw new IllegalArgumentException(USAGE);
+    }
+
+    Path classList = Files.createTempFile("dagger", ".classlist");
+    int exitCode;
+    try {
+      Files.write(
+          classList,
+          classList(
+              Paths.get(System.getProperty("java.home"), "lib", "classlist"),
+              classpath,
+              components),
+          UTF_8);
+      Process process =
+          new ProcessBuilder(
+                  java,
+                  "-Xshare:dump",
+                  "-XX:SharedClassListFile=" + classList,
+                  "-XX:SharedArchiveFile=" + output,
+                  "-cp",
+                  classpath)
+              .inheritIO()
+              .start();
+      exitCode = process.waitFor();
+    } finally {
+      Files.deleteIfExists(classList);
+    }
+    System.exit(exitCode);
+  }
+
+  /**
+   * Returns the merged class list of the given generated components, preceded by the default class
+   * list of the JDK at {@code jdkClassList}, if it exists.
+   */
+  static Set<String> classList(Path jdkClassList, String classpath, List<String> components)
+      throws IOException {
+    Set<String> classes = new LinkedHashSet<>();
+    if (Files.isRegularFile(jdkClassList)) {
+      addClasses(Files.readAllLines(jdkClassList, UTF_8), classes);
+    }
+    try (URLClassLoader classLoader = new URLClassLoader(urls(classpath), null)) {
+      for (String component : components) {
+        String resource = component.replace('.', '/') + ".classlist";
+        try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+          if (inputStream == null) {
+            throw new IllegalArgumentException(
+                "No class list found for " + component + ". Was it compiled with "
+                    + "-Adagger.componentClassList=enabled?");
+          }
+          BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+          addClasses(reader.lines()::iterator, classes);
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static void addClasses(Iterable<String> lines, Set<String> classes) {
+    for (String line : lines) {
+      line = line.trim();
+      // Lines starting with '@' hold extra data about the JDK's classes, which only applies to the
+      // JDK's own archive.
+      if (!line.isEmpty() && !line.startsWith("#") && !line.startsWith("@")) {
+        classes.add(line);
+      }
+    }
+  }
+
+  private static URL[] urls(String classpath) throws MalformedURLException {
+    List<URL> urls = new ArrayList<>();
+    for (String entry : classpath.split(File.pathSeparator)) {
+      if (!entry.isEmpty()) {
+        urls.add(Paths.get(entry).toUri().toURL());
+      }
+    }
+    return urls.toArray(new URL[0]);
+  }
+
+  private static String argumentValue(String[] args, int index) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException(USAGE);
+    }
+    return args[index];
+  }
+
+  private ClassListArchiver() {}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.base;
+
+import com.google.common.collect.ImmutableSortedMap;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Named counters describing the work done by the processor across all rounds, reported at the end
+ * of processing if {@code -Adagger.reportProcessingStatistics=ENABLED}.
+ */
+@Singleton
+public final class ProcessingStatistics {
+  private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+  @Inject
+  ProcessingStatistics() {}
+
+  /** Adds one to the counter with the given name. */
+  public void increment(String counter) {
+    add(counter, 1);
+  }
+
+  /** Adds {@code delta} to the counter with the given name. */
+  public void add(String counter, long delta) {
+    counters.computeIfAbsent(counter, unused -> new AtomicLong()).addAndGet(delta);
+  }
+
+  /**
+   * Returns the number of bytes allocated on the heap by the current thread so far, or {@code -1}
+   * if the JVM can't measure it.
+   */
+  public static long currentThreadAllocatedBytes() {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+      return -1;
+    }
+    try {
+      return ((com.sun.management.ThreadMXBean) threadMXBean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    } catch (UnsupportedOperationException e) {
+      return -1;
+    }
+  }
+
+  /** Returns the current value of every counter, sorted by name. */
+  public ImmutableSortedMap<String, Long> counters() {
+    ImmutableSortedMap.Builder<String, Long> values = ImmutableSortedMap.naturalOrder();
+    counters.forEach((name, value) -> values.put(name, value.get()));
+    return values.buildOrThrow();
+  }
+
+  /** Returns a report of all counters, one per line. */
+  public String report() {
+    StringBuilder report = new StringBuilder("Dagger processing statistics:");
+    counters()
+        .forEach((name, value) -> report.append("\n  ").append(name).append(": ").append(value));
+    return report.toString();
+  }
+}
@@ -18,6 +18,7 @@ package dagger.internal.codegen.base;
 
 import static androidx.room.compiler.processing.JavaPoetExtKt.addOriginatingElement;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.CAST;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.DEPRECATION;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.KOTLIN_INTERNAL;
@@ -25,6 +26,7 @@ import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.RAWTY
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.UNCHECKED;
 import static dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression.UNINITIALIZED;
 import static dagger.internal.codegen.xprocessing.XElements.closestEnclosingTypeElement;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import androidx.room.compiler.processing.XElement;
 import androidx.room.compiler.processing.XFiler;
@@ -32,12 +34,17 @@ import androidx.room.compiler.processing.XMessager;
 import androidx.room.compiler.processing.XProcessingEnv;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeSpec;
 import dagger.internal.DaggerGenerated;
 import dagger.internal.codegen.javapoet.AnnotationSpecs;
 import dagger.internal.codegen.javapoet.AnnotationSpecs.Suppression;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 
 /**
@@ -74,6 +81,56 @@ public abstract class SourceFileGenerator<T> {
     }
   }
 
+  /**
+   * Returns the source files that {@link #generate(Object)} would write for {@code input}, without
+   * writing them.
+   *
+   * <p>Building the files reads from the processing environment, so this must be called from the
+   * processing thread. The returned files can then be written with {@link #writeInParallel}.
+   */
+  public ImmutableList<PendingSourceFile> pendingSourceFiles(T input) {
+    XElement originatingElement = originatingElement(input);
+    return topLevelTypes(input).stream()
+        .map(type -> new PendingSourceFile(originatingElement, buildJavaFile(input, type)))
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Writes the given source files, rendering their contents in parallel, and returns the number of
+   * bytes written.
+   *
+   * <p>Only the JavaPoet rendering, which doesn't touch the processing environment, is done in
+   * parallel. The files are written to the {@link XFiler} on the calling thread in the given order,
+   * so the output is identical to writing each file with {@link #generate(Object)}.
+   */
+  @CanIgnoreReturnValue
+  public long writeInParallel(ImmutableList<PendingSourceFile> sourceFiles, XMessager messager) {
+    ImmutableList<byte[]> contents =
+        sourceFiles.parallelStream().map(PendingSourceFile::render).collect(toImmutableList());
+    long bytesWritten = 0;
+    for (int i = 0; i < sourceFiles.size(); i++) {
+      PendingSourceFile sourceFile = sourceFiles.get(i);
+      try (OutputStream outputStream =
+          filer.writeSource(
+              sourceFile.javaFile.packageName,
+              sourceFile.javaFile.typeSpec.name,
+              "java",
+              ImmutableList.of(sourceFile.originatingElement),
+              XFiler.Mode.Isolating)) {
+        outputStream.write(contents.get(i));
+        bytesWritten += contents.get(i).length;
+      } catch (IOException e) {
+        JavaFile javaFile = sourceFile.javaFile;
+        new SourceFileGenerationException(
+                Optional.of(ClassName.get(javaFile.packageName, javaFile.typeSpec.name)),
+                e,
+                sourceFile.originatingElement)
+            .printMessageTo(messager);
+      }
+    }
+    return bytesWritten;
+  }
+
   private JavaFile buildJavaFile(T input, TypeSpec.Builder typeSpecBuilder) {
     XElement originatingElement = originatingElement(input);
     addOriginatingElement(typeSpecBuilder, originatingElement);
@@ -121,4 +178,26 @@ public abstract class SourceFileGenerator<T> {
   protected ImmutableSet<Suppression> warningSuppressions() {
     return ImmutableSet.of();
   }
+
+  /** A built source file that has not yet been rendered or written. */
+  public static final class PendingSourceFile {
+    private final XElement originatingElement;
+    private final JavaFile javaFile;
+
+    private PendingSourceFile(XElement originatingElement, JavaFile javaFile) {
+      this.originatingElement = originatingElement;
+      this.javaFile = javaFile;
+    }
+
+    private byte[] render() {
+      StringBuilder sb = new StringBuilder();
+      try {
+        javaFile.writeTo(sb);
+      } catch (IOException e) {
+        // StringBuilder never throws IOException.
+        throw new UncheckedIOException(e);
+      }
+      return sb.toString().getBytes(UTF_8);
+    }
+  }
 }
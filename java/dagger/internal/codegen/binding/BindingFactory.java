@@ -217,7 +217,7 @@ public final class BindingFactory {
         .bindingElement(method)
         .contributingModule(module)
         .key(keyFactory.forProducesMethod(method, module))
-        .executorRequest(dependencyRequestFactory.forProductionImplementationExecutor())
+        .executorRequest(dependencyRequestFactory.forProductionImplementationExecutor(module))
         .monitorRequest(dependencyRequestFactory.forProductionComponentMonitor())
         .explicitDependencies(
             dependencyRequestFactory.forRequiredResolvedVariables(
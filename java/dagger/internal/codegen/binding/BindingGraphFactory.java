@@ -24,6 +24,7 @@ import static dagger.internal.codegen.binding.AssistedInjectionAnnotations.isAss
 import static dagger.internal.codegen.binding.LegacyBindingGraphFactory.useLegacyBindingGraphFactory;
 import static dagger.internal.codegen.extension.DaggerCollectors.onlyElement;
 import static dagger.internal.codegen.extension.DaggerGraphs.unreachableNodes;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
 import static dagger.internal.codegen.model.BindingKind.ASSISTED_INJECTION;
 import static dagger.internal.codegen.model.BindingKind.DELEGATE;
@@ -35,15 +36,19 @@ import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
 import static dagger.internal.codegen.xprocessing.XTypes.isTypeOf;
 
 import androidx.room.compiler.processing.XTypeElement;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.graph.Graphs;
 import com.google.common.graph.ImmutableNetwork;
 import com.google.common.graph.MutableNetwork;
 import com.google.common.graph.NetworkBuilder;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import dagger.internal.codegen.base.Keys;
 import dagger.internal.codegen.base.MapType;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.SetType;
 import dagger.internal.codegen.base.TarjanSCCs;
 import dagger.internal.codegen.compileroption.CompilerOptions;
@@ -80,6 +85,7 @@ public final class BindingGraphFactory {
   private final BindingNode.Factory bindingNodeFactory;
   private final ComponentDeclarations.Factory componentDeclarationsFactory;
   private final CompilerOptions compilerOptions;
+  private final ProcessingStatistics processingStatistics;
 
   @Inject
   BindingGraphFactory(
@@ -89,7 +95,8 @@ public final class BindingGraphFactory {
       BindingFactory bindingFactory,
       BindingNode.Factory bindingNodeFactory,
       ComponentDeclarations.Factory componentDeclarationsFactory,
-      CompilerOptions compilerOptions) {
+      CompilerOptions compilerOptions,
+      ProcessingStatistics processingStatistics) {
     this.legacyBindingGraphFactory = legacyBindingGraphFactory;
     this.injectBindingRegistry = injectBindingRegistry;
     this.keyFactory = keyFactory;
@@ -97,6 +104,7 @@ public final class BindingGraphFactory {
     this.bindingNodeFactory = bindingNodeFactory;
     this.componentDeclarationsFactory = componentDeclarationsFactory;
     this.compilerOptions = compilerOptions;
+    this.processingStatistics = processingStatistics;
   }
 
   /**
@@ -112,14 +120,53 @@ public final class BindingGraphFactory {
         : createBindingGraph(componentDescriptor, createFullBindingGraph);
   }
 
+  /**
+   * Creates the full binding graph for a component, along with the binding graph that includes
+   * only the bindings reachable from at least one entry point.
+   *
+   * <p>If the component has no child components, the reachable binding graph is derived by pruning
+   * the full binding graph, so the component is only resolved once. The result is the same as
+   * calling {@link #create} with {@code createFullBindingGraph} set to {@code false}, since nodes
+   * that are reachable from an entry point are all resolved, in the same order, before any of the
+   * other module bindings.
+   *
+   * <p>This doesn't hold for components with child components: a binding that is resolved in an
+   * ancestor component can be owned by that ancestor instead of the child component, and the full
+   * binding graph resolves more bindings in each ancestor. For those, and for components that use
+   * the legacy binding graph factory, the reachable binding graph is resolved separately.
+   */
+  public FullAndReachableBindingGraphs createFullAndReachable(
+      ComponentDescriptor componentDescriptor) {
+    if (useLegacyBindingGraphFactory(compilerOptions, componentDescriptor)
+        || !componentDescriptor.childComponents().isEmpty()) {
+      return new FullAndReachableBindingGraphs(
+          create(componentDescriptor, true),
+          Suppliers.memoize(() -> create(componentDescriptor, false)));
+    }
+    Resolver resolver = new Resolver(componentDescriptor);
+    resolver.resolve(/* createFullBindingGraph= */ true);
+    // Copy the network before it is used for the full binding graph, since copying preserves the
+    // order that the nodes and edges were added in.
+    MutableNetwork<Node, Edge> reachableNetwork = Graphs.copyOf(resolver.network);
+    ComponentNode componentNode = resolver.componentNode;
+    return new FullAndReachableBindingGraphs(
+        createBindingGraph(resolver.network, componentNode, true),
+        Suppliers.memoize(() -> createBindingGraph(reachableNetwork, componentNode, false)));
+  }
+
   private BindingGraph createBindingGraph(
       ComponentDescriptor componentDescriptor, boolean createFullBindingGraph) {
     Resolver resolver = new Resolver(componentDescriptor);
     resolver.resolve(createFullBindingGraph);
+    return createBindingGraph(resolver.network, resolver.componentNode, createFullBindingGraph);
+  }
 
-    MutableNetwork<Node, Edge> network = resolver.network;
+  private static BindingGraph createBindingGraph(
+      MutableNetwork<Node, Edge> network,
+      ComponentNode componentNode,
+      boolean createFullBindingGraph) {
     if (!createFullBindingGraph) {
-      unreachableNodes(network.asGraph(), resolver.componentNode).forEach(network::removeNode);
+      unreachableNodes(network.asGraph(), componentNode).forEach(network::removeNode);
     }
 
     network = BindingGraphTransformations.withFixedBindingTypes(network);
@@ -128,6 +175,29 @@ public final class BindingGraphFactory {
         createFullBindingGraph);
   }
 
+  /**
+   * The full binding graph for a component, and the binding graph that includes only the bindings
+   * reachable from at least one entry point, which is only created when it is requested.
+   */
+  public static final class FullAndReachableBindingGraphs {
+    private final BindingGraph fullBindingGraph;
+    private final Supplier<BindingGraph> reachableBindingGraph;
+
+    private FullAndReachableBindingGraphs(
+        BindingGraph fullBindingGraph, Supplier<BindingGraph> reachableBindingGraph) {
+      this.fullBindingGraph = fullBindingGraph;
+      this.reachableBindingGraph = reachableBindingGraph;
+    }
+
+    public BindingGraph fullBindingGraph() {
+      return fullBindingGraph;
+    }
+
+    public BindingGraph reachableBindingGraph() {
+      return reachableBindingGraph.get();
+    }
+  }
+
   private final class Resolver {
     final ComponentPath componentPath;
     final Optional<Resolver> parentResolver;
@@ -137,8 +207,12 @@ public final class BindingGraphFactory {
     final MutableNetwork<Node, Edge> network;
     final Map<Key, ResolvedBindings> resolvedContributionBindings = new LinkedHashMap<>();
     final Map<Key, ResolvedBindings> resolvedMembersInjectionBindings = new LinkedHashMap<>();
-    final RequiresResolutionChecker requiresResolutionChecker = new RequiresResolutionChecker();
+    final RequiresResolutionChecker requiresResolutionChecker;
     final Queue<ComponentDescriptor> subcomponentsToResolve = new ArrayDeque<>();
+    // The checkers of this resolver's child resolvers, keyed by the declarations the checker reads
+    // from the child. See sharedRequiresResolutionChecker().
+    final Map<ImmutableSet<Declaration>, RequiresResolutionChecker> childCheckersByDeclarations =
+        new HashMap<>();
 
     Resolver(ComponentDescriptor componentDescriptor) {
       this(Optional.empty(), componentDescriptor);
@@ -165,12 +239,68 @@ public final class BindingGraphFactory {
           componentDeclarationsFactory.create(
               parentResolver.map(parent -> parent.componentDescriptor),
               componentDescriptor);
+      requiresResolutionChecker =
+          parentResolver.isPresent()
+              ? sharedRequiresResolutionChecker(parentResolver.get())
+              : newRequiresResolutionChecker();
       subcomponentsToResolve.addAll(
           componentDescriptor.childComponentsDeclaredByFactoryMethods().values());
       subcomponentsToResolve.addAll(
           componentDescriptor.childComponentsDeclaredByBuilderEntryPoints().values());
     }
 
+    /**
+     * Returns a checker for this resolver, reusing the checker of a sibling resolver that would
+     * read the same declarations.
+     *
+     * <p>Besides the ancestors, which siblings have in common, the checker reads the explicit,
+     * delegate and optional binding declarations of this component. These include the binding of
+     * the component itself, which always differs between siblings, but which only matters if an
+     * ancestor declares a binding for the same key. It's left out of the cache key, and the checker
+     * isn't shared in that rare case.
+     */
+    private RequiresResolutionChecker sharedRequiresResolutionChecker(Resolver parentResolver) {
+      Optional<ContributionBinding> componentBinding =
+          declarations.explicitBindingDeclarations().stream()
+              .filter(ContributionBinding.class::isInstance)
+              .map(ContributionBinding.class::cast)
+              .filter(binding -> binding.kind().equals(BindingKind.COMPONENT))
+              .findFirst();
+      if (componentBinding.isPresent()
+          && parentResolver.getResolverLineage().stream()
+              .anyMatch(
+                  ancestor -> ancestor.declaresBindingOrOptional(componentBinding.get().key()))) {
+        return newRequiresResolutionChecker();
+      }
+      ImmutableSet<Declaration> checkedDeclarations =
+          declarations.explicitBindingDeclarations().stream()
+              .filter(declaration -> !declaration.equals(componentBinding.orElse(null)))
+              .collect(toImmutableSet());
+      RequiresResolutionChecker checker =
+          parentResolver.childCheckersByDeclarations.get(checkedDeclarations);
+      if (checker != null) {
+        processingStatistics.increment("requires-resolution checkers shared by sibling components");
+        return checker;
+      }
+      checker = newRequiresResolutionChecker();
+      parentResolver.childCheckersByDeclarations.put(checkedDeclarations, checker);
+      return checker;
+    }
+
+    private RequiresResolutionChecker newRequiresResolutionChecker() {
+      return new RequiresResolutionChecker(
+          network,
+          getResolverLineage().stream()
+              .map(resolver -> resolver.declarations)
+              .collect(toImmutableList()));
+    }
+
+    private boolean declaresBindingOrOptional(Key key) {
+      return !declarations.bindings(key).isEmpty()
+          || !declarations.delegates(key).isEmpty()
+          || !declarations.optionalBindings(key).isEmpty();
+    }
+
     void resolve(boolean createFullBindingGraph) {
       addNode(componentNode);
 
@@ -216,6 +346,7 @@ public final class BindingGraphFactory {
           subcomponentResolver.resolve(createFullBindingGraph);
         }
       }
+      requiresResolutionChecker.publishStatistics();
     }
 
     /**
@@ -528,22 +659,6 @@ public final class BindingGraphFactory {
           .build();
     }
 
-    /**
-     * Returns the {@link OptionalBindingDeclaration}s that match the {@code key} from this and all
-     * ancestor resolvers.
-     */
-    private ImmutableSet<OptionalBindingDeclaration> getOptionalBindingDeclarations(Key key) {
-      Optional<Key> unwrapped = keyFactory.unwrapOptional(key);
-      if (unwrapped.isEmpty()) {
-        return ImmutableSet.of();
-      }
-      ImmutableSet.Builder<OptionalBindingDeclaration> declarations = ImmutableSet.builder();
-      for (Resolver resolver : getResolverLineage()) {
-        declarations.addAll(resolver.declarations.optionalBindings(unwrapped.get()));
-      }
-      return declarations.build();
-    }
-
     /**
      * Returns the {@link ResolvedBindings} for {@code key} that was resolved in this resolver or an
      * ancestor resolver. Only checks for {@link ContributionBinding}s as {@link
@@ -670,160 +785,198 @@ public final class BindingGraphFactory {
     private Resolver rootResolver() {
       return parentResolver.isPresent() ? parentResolver.get().rootResolver() : this;
     }
+  }
 
-    private final class RequiresResolutionChecker {
-      private final Map<Node, Boolean> dependsOnMissingBindingCache = new HashMap<>();
-      private final Map<Node, Boolean> dependsOnLocalBindingsCache = new HashMap<>();
+  /**
+   * Decides whether a binding owned by an ancestor component must be resolved again in a child
+   * component, caching the answers.
+   *
+   * <p>The checker only reads the shared binding network and the declarations of the child and its
+   * ancestors, rather than the state of a {@link Resolver}, so that sibling resolvers can share it.
+   */
+  private final class RequiresResolutionChecker {
+    private final MutableNetwork<Node, Edge> network;
+    // The declarations of the components from the root down to the child.
+    private final ImmutableList<ComponentDeclarations> declarationsLineage;
+    private final ComponentDeclarations declarations;
+    private final Map<Node, Boolean> dependsOnMissingBindingCache = new HashMap<>();
+    private final Map<Node, Boolean> dependsOnLocalBindingsCache = new HashMap<>();
+    // Counted locally since this is on the hot path, and added to the processing statistics
+    // once each resolver that uses this checker is done.
+    private int cachedChecks;
+    private int computedChecks;
+
+    RequiresResolutionChecker(
+        MutableNetwork<Node, Edge> network,
+        ImmutableList<ComponentDeclarations> declarationsLineage) {
+      this.network = network;
+      this.declarationsLineage = declarationsLineage;
+      this.declarations = Iterables.getLast(declarationsLineage);
+    }
 
-      boolean requiresResolution(BindingNode binding) {
-        // If we're not allowed to float then the binding cannot be re-resolved in this component.
-        if (isNotAllowedToFloat(binding)) {
-          return false;
-        }
-        if (hasLocalBindings(binding)) {
-          return true;
-        }
-        return shouldCheckDependencies(binding)
-            // Try to re-resolving bindings that depend on missing bindings. The missing bindings
-            // will still end up being reported for cases where the binding is not allowed to float,
-            // but re-resolving allows cases that are allowed to float to be re-resolved which can
-            // prevent misleading dependency traces that include all floatable bindings.
-            // E.g. see MissingBindingSuggestionsTest#bindsMissingBinding_fails().
-            && (dependsOnLocalBinding(binding) || dependsOnMissingBinding(binding));
-      }
-
-      private boolean isNotAllowedToFloat(BindingNode binding) {
-        // In general, @Provides/@Binds/@Production bindings are allowed to float to get access to
-        // multibinding contributions that are contributed in subcomponents. However, they aren't
-        // allowed to float to get access to missing bindings that are installed in subcomponents,
-        // so we prevent floating if these bindings depend on a missing binding.
-        return binding.kind() != BindingKind.INJECTION
-            && binding.kind() != BindingKind.ASSISTED_INJECTION
-            && dependsOnMissingBinding(binding);
-      }
-
-      private boolean dependsOnMissingBinding(BindingNode binding) {
-        if (!dependsOnMissingBindingCache.containsKey(binding)) {
-          visitUncachedDependencies(binding);
-        }
-        return checkNotNull(dependsOnMissingBindingCache.get(binding));
+    void publishStatistics() {
+      if (cachedChecks > 0) {
+        processingStatistics.add(
+            "requires-resolution checks served from the cache", cachedChecks);
+      }
+      if (computedChecks > 0) {
+        processingStatistics.add("requires-resolution checks computed", computedChecks);
       }
+      cachedChecks = 0;
+      computedChecks = 0;
+    }
 
-      private boolean dependsOnLocalBinding(BindingNode binding) {
-        if (!dependsOnLocalBindingsCache.containsKey(binding)) {
-          visitUncachedDependencies(binding);
-        }
-        return checkNotNull(dependsOnLocalBindingsCache.get(binding));
-      }
-
-      private void visitUncachedDependencies(BindingNode binding) {
-        // We use Tarjan's algorithm to visit the uncached dependencies of the binding grouped by
-        // strongly connected nodes (i.e. cycles) and iterated in reverse topological order.
-        for (ImmutableSet<Node> cycleNodes : stronglyConnectedNodes(binding)) {
-          // As a sanity check, verify that none of the keys in the cycle are cached yet.
-          checkState(cycleNodes.stream().noneMatch(dependsOnLocalBindingsCache::containsKey));
-          checkState(cycleNodes.stream().noneMatch(dependsOnMissingBindingCache::containsKey));
-          boolean dependsOnMissingBinding =
-              cycleNodes.stream().anyMatch(this::isMissingBinding)
-              || cycleNodes.stream()
-                  .filter(this::shouldCheckDependencies)
-                  .flatMap(this::dependencyStream)
-                  .filter(not(cycleNodes::contains))
-                  .anyMatch(dependsOnMissingBindingCache::get);
-          // All keys in the cycle have the same cached value since they all depend on each other.
-          cycleNodes.forEach(
-              cycleNode -> dependsOnMissingBindingCache.put(cycleNode, dependsOnMissingBinding));
-
-          // Note that we purposely don't filter out scoped bindings below. In particular, there are
-          // currently 3 cases where hasLocalBinding will return true:
-          //
-          //   1) The binding is MULTIBOUND_SET/MULTIBOUND_MAP and depends on an explicit
-          //      multibinding contributions in the current component.
-          //   2) The binding is OPTIONAL and depends on an explicit binding contributed in the
-          //      current component.
-          //   3) The binding has a duplicate explicit binding contributed in this component.
-          //
-          // For case #1 and #2 it's not actually required to check for scope because those are
-          // synthetic bindings which are never scoped.
-          //
-          // For case #3 we actually want don't want to rule out a scoped binding, e.g. in the case
-          // where we have a floating @Inject Foo(Bar bar) binding with @Singleton Bar provided in
-          // the ParentComponent and a duplicate Bar provided in the ChildComponent we want to
-          // reprocess Foo so that we can report the duplicate Bar binding.
-          boolean dependsOnLocalBindings =
-              // First, check if any of the bindings themselves depends on local bindings.
-              cycleNodes.stream().anyMatch(this::hasLocalBindings)
-              // Next, check if any of the dependencies (that aren't in the cycle itself) depend
-              // on local bindings. We should be guaranteed that all dependencies are cached since
-              // Tarjan's algorithm is traversed in reverse topological order.
-              || cycleNodes.stream()
-                  .filter(this::shouldCheckDependencies)
-                  .flatMap(this::dependencyStream)
-                  .filter(not(cycleNodes::contains))
-                  .anyMatch(dependsOnLocalBindingsCache::get);
-          // All keys in the cycle have the same cached value since they all depend on each other.
-          cycleNodes.forEach(
-              cycleNode -> dependsOnLocalBindingsCache.put(cycleNode, dependsOnLocalBindings));
-        }
+    boolean requiresResolution(BindingNode binding) {
+      // If we're not allowed to float then the binding cannot be re-resolved in this component.
+      if (isNotAllowedToFloat(binding)) {
+        return false;
+      }
+      if (hasLocalBindings(binding)) {
+        return true;
       }
+      return shouldCheckDependencies(binding)
+          // Try to re-resolving bindings that depend on missing bindings. The missing bindings
+          // will still end up being reported for cases where the binding is not allowed to float,
+          // but re-resolving allows cases that are allowed to float to be re-resolved which can
+          // prevent misleading dependency traces that include all floatable bindings.
+          // E.g. see MissingBindingSuggestionsTest#bindsMissingBinding_fails().
+          && (dependsOnLocalBinding(binding) || dependsOnMissingBinding(binding));
+    }
 
-      /**
-       * Returns a list of strongly connected components in reverse topological order, starting from
-       * the given {@code rootNode} and traversing its transitive dependencies.
-       *
-       * <p>Note that the returned list may not include all transitive dependencies of the {@code
-       * rootNode} because we intentionally stop at dependencies that:
-       *
-       * <ul>
-       *   <li> Already have a cached value.
-       *   <li> Are scoped to an ancestor component (i.e. cannot depend on local bindings).
-       * </ul>
-       */
-      private ImmutableList<ImmutableSet<Node>> stronglyConnectedNodes(BindingNode rootNode) {
-        return TarjanSCCs.compute(
-            ImmutableSet.of(rootNode),
-            node -> shouldCheckDependencies(node)
-                ? dependencyStream(node)
-                    // Skip dependencies that are already cached
-                    .filter(dep -> !dependsOnLocalBindingsCache.containsKey(dep))
-                    .collect(toImmutableSet())
-                : ImmutableSet.of());
-      }
-
-      private Stream<Node> dependencyStream(Node node) {
-        return network.successors(node).stream();
-      }
-
-      private boolean shouldCheckDependencies(Node node) {
-        if (!(node instanceof BindingNode)) {
-          return false;
-        }
-        // Note: we can skip dependencies for scoped bindings because while there could be
-        // duplicates underneath the scoped binding, those duplicates are technically unused so
-        // Dagger shouldn't validate them.
-        BindingNode binding = (BindingNode) node;
-        return !isScopedToComponent(binding)
-            // TODO(beder): Figure out what happens with production subcomponents.
-            && !binding.kind().equals(BindingKind.PRODUCTION);
+    private boolean isNotAllowedToFloat(BindingNode binding) {
+      // In general, @Provides/@Binds/@Production bindings are allowed to float to get access to
+      // multibinding contributions that are contributed in subcomponents. However, they aren't
+      // allowed to float to get access to missing bindings that are installed in subcomponents,
+      // so we prevent floating if these bindings depend on a missing binding.
+      return binding.kind() != BindingKind.INJECTION
+          && binding.kind() != BindingKind.ASSISTED_INJECTION
+          && dependsOnMissingBinding(binding);
+    }
+
+    private boolean dependsOnMissingBinding(BindingNode binding) {
+      if (!dependsOnMissingBindingCache.containsKey(binding)) {
+        visitUncachedDependencies(binding);
       }
+      return checkNotNull(dependsOnMissingBindingCache.get(binding));
+    }
 
-      private boolean isScopedToComponent(BindingNode binding) {
-        return binding.scope().isPresent() && !binding.scope().get().isReusable();
+    private boolean dependsOnLocalBinding(BindingNode binding) {
+      if (dependsOnLocalBindingsCache.containsKey(binding)) {
+        cachedChecks++;
+      } else {
+        computedChecks++;
+        visitUncachedDependencies(binding);
       }
+      return checkNotNull(dependsOnLocalBindingsCache.get(binding));
+    }
 
-      private boolean isMissingBinding(Node binding) {
-        return binding instanceof MissingBinding;
+    private void visitUncachedDependencies(BindingNode binding) {
+      // We use Tarjan's algorithm to visit the uncached dependencies of the binding grouped by
+      // strongly connected nodes (i.e. cycles) and iterated in reverse topological order.
+      for (ImmutableSet<Node> cycleNodes : stronglyConnectedNodes(binding)) {
+        // As a sanity check, verify that none of the keys in the cycle are cached yet.
+        checkState(cycleNodes.stream().noneMatch(dependsOnLocalBindingsCache::containsKey));
+        checkState(cycleNodes.stream().noneMatch(dependsOnMissingBindingCache::containsKey));
+        boolean dependsOnMissingBinding =
+            cycleNodes.stream().anyMatch(this::isMissingBinding)
+            || cycleNodes.stream()
+                .filter(this::shouldCheckDependencies)
+                .flatMap(this::dependencyStream)
+                .filter(not(cycleNodes::contains))
+                .anyMatch(dependsOnMissingBindingCache::get);
+        // All keys in the cycle have the same cached value since they all depend on each other.
+        cycleNodes.forEach(
+            cycleNode -> dependsOnMissingBindingCache.put(cycleNode, dependsOnMissingBinding));
+
+        // Note that we purposely don't filter out scoped bindings below. In particular, there are
+        // currently 3 cases where hasLocalBinding will return true:
+        //
+        //   1) The binding is MULTIBOUND_SET/MULTIBOUND_MAP and depends on an explicit
+        //      multibinding contributions in the current component.
+        //   2) The binding is OPTIONAL and depends on an explicit binding contributed in the
+        //      current component.
+        //   3) The binding has a duplicate explicit binding contributed in this component.
+        //
+        // For case #1 and #2 it's not actually required to check for scope because those are
+        // synthetic bindings which are never scoped.
+        //
+        // For case #3 we actually want don't want to rule out a scoped binding, e.g. in the case
+        // where we have a floating @Inject Foo(Bar bar) binding with @Singleton Bar provided in
+        // the ParentComponent and a duplicate Bar provided in the ChildComponent we want to
+        // reprocess Foo so that we can report the duplicate Bar binding.
+        boolean dependsOnLocalBindings =
+            // First, check if any of the bindings themselves depends on local bindings.
+            cycleNodes.stream().anyMatch(this::hasLocalBindings)
+            // Next, check if any of the dependencies (that aren't in the cycle itself) depend
+            // on local bindings. We should be guaranteed that all dependencies are cached since
+            // Tarjan's algorithm is traversed in reverse topological order.
+            || cycleNodes.stream()
+                .filter(this::shouldCheckDependencies)
+                .flatMap(this::dependencyStream)
+                .filter(not(cycleNodes::contains))
+                .anyMatch(dependsOnLocalBindingsCache::get);
+        // All keys in the cycle have the same cached value since they all depend on each other.
+        cycleNodes.forEach(
+            cycleNode -> dependsOnLocalBindingsCache.put(cycleNode, dependsOnLocalBindings));
       }
+    }
 
-      private boolean hasLocalBindings(Node node) {
-        if (!(node instanceof BindingNode)) {
-          return false;
-        }
-        BindingNode binding = (BindingNode) node;
-        return hasLocalMultibindingContributions(binding)
-            || hasLocalOptionalBindingContribution(binding)
-            || hasDuplicateExplicitBinding(binding);
+    /**
+     * Returns a list of strongly connected components in reverse topological order, starting from
+     * the given {@code rootNode} and traversing its transitive dependencies.
+     *
+     * <p>Note that the returned list may not include all transitive dependencies of the {@code
+     * rootNode} because we intentionally stop at dependencies that:
+     *
+     * <ul>
+     *   <li> Already have a cached value.
+     *   <li> Are scoped to an ancestor component (i.e. cannot depend on local bindings).
+     * </ul>
+     */
+    private ImmutableList<ImmutableSet<Node>> stronglyConnectedNodes(BindingNode rootNode) {
+      return TarjanSCCs.compute(
+          ImmutableSet.of(rootNode),
+          node -> shouldCheckDependencies(node)
+              ? dependencyStream(node)
+                  // Skip dependencies that are already cached
+                  .filter(dep -> !dependsOnLocalBindingsCache.containsKey(dep))
+                  .collect(toImmutableSet())
+              : ImmutableSet.of());
+    }
+
+    private Stream<Node> dependencyStream(Node node) {
+      return network.successors(node).stream();
+    }
+
+    private boolean shouldCheckDependencies(Node node) {
+      if (!(node instanceof BindingNode)) {
+        return false;
       }
+      // Note: we can skip dependencies for scoped bindings because while there could be
+      // duplicates underneath the scoped binding, those duplicates are technically unused so
+      // Dagger shouldn't validate them.
+      BindingNode binding = (BindingNode) node;
+      return !isScopedToComponent(binding)
+          // TODO(beder): Figure out what happens with production subcomponents.
+          && !binding.kind().equals(BindingKind.PRODUCTION);
+    }
+
+    private boolean isScopedToComponent(BindingNode binding) {
+      return binding.scope().isPresent() && !binding.scope().get().isReusable();
+    }
+
+    private boolean isMissingBinding(Node binding) {
+      return binding instanceof MissingBinding;
+    }
+
+    private boolean hasLocalBindings(Node node) {
+      if (!(node instanceof BindingNode)) {
+        return false;
+      }
+      BindingNode binding = (BindingNode) node;
+      return hasLocalMultibindingContributions(binding)
+          || hasLocalOptionalBindingContribution(binding)
+          || hasDuplicateExplicitBinding(binding);
     }
 
     /**
@@ -846,7 +999,7 @@ public final class BindingGraphFactory {
         // If a parent contributes a @Provides Optional<Foo> binding and a child has a
         // @BindsOptionalOf Foo method, the two should conflict, even if there is no binding for
         // Foo on its own
-        return !getOptionalBindingDeclarations(binding.key()).isEmpty();
+        return hasOptionalBindingDeclarations(binding.key());
       }
     }
 
@@ -858,7 +1011,7 @@ public final class BindingGraphFactory {
           || !declarations.delegates(requestKey).isEmpty();
     }
 
-    /** Returns {@code true} if this resolver has a duplicate explicit binding to resolve. */
+    /** Returns {@code true} if this component has a duplicate explicit binding to resolve. */
     private boolean hasDuplicateExplicitBinding(BindingNode binding) {
       // By default, we don't actually report an error when an explicit binding tries to override
       // an injection binding (b/312202845). For now, ignore injection bindings unless we actually
@@ -875,5 +1028,16 @@ public final class BindingGraphFactory {
       // If the current component has an explicit binding for the same key it must be a duplicate.
       return hasLocalExplicitBindings(binding.key());
     }
+
+    /**
+     * Returns {@code true} if this or an ancestor component has an {@link
+     * OptionalBindingDeclaration} that matches the {@code key}.
+     */
+    private boolean hasOptionalBindingDeclarations(Key key) {
+      Optional<Key> unwrapped = keyFactory.unwrapOptional(key);
+      return unwrapped.isPresent()
+          && declarationsLineage.stream()
+              .anyMatch(declarations -> !declarations.optionalBindings(unwrapped.get()).isEmpty());
+    }
   }
 }
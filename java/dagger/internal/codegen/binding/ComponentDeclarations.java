@@ -167,6 +167,18 @@ final class ComponentDeclarations {
     return subcomponents.get(key);
   }
 
+  /**
+   * Returns the explicit bindings, delegates and optional binding declarations of the component,
+   * including multibinding contributions.
+   */
+  ImmutableSet<Declaration> explicitBindingDeclarations() {
+    return ImmutableSet.<Declaration>builder()
+        .addAll(bindings.values())
+        .addAll(delegates.values())
+        .addAll(optionalBindings.values())
+        .build();
+  }
+
   ImmutableSet<Declaration> allDeclarations() {
     return ImmutableSet.<Declaration>builder()
         .addAll(bindings.values())
@@ -271,7 +283,7 @@ final class ComponentDeclarations {
               declarations,
               declaration ->
                   unwrapMultibindingKey(
-                      declaration.key().withoutMultibindingContributionIdentifier())));
+                      keyFactory.withoutMultibindingContributionIdentifier(declaration.key()))));
     }
 
     private static <T extends Declaration> ImmutableSet<T> multibindingContributions(
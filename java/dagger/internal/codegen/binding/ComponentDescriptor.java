@@ -63,6 +63,7 @@ import dagger.internal.codegen.base.ClearableCache;
 import dagger.internal.codegen.base.ComponentAnnotation;
 import dagger.internal.codegen.base.DaggerSuperficialValidation;
 import dagger.internal.codegen.base.ModuleAnnotation;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.model.DependencyRequest;
 import dagger.internal.codegen.model.Scope;
@@ -512,6 +513,7 @@ public abstract class ComponentDescriptor {
     private final ModuleDescriptor.Factory moduleDescriptorFactory;
     private final InjectionAnnotations injectionAnnotations;
     private final DaggerSuperficialValidation superficialValidation;
+    private final ProcessingStatistics processingStatistics;
     private final Map<XTypeElement, ComponentDescriptor> cache = new HashMap<>();
 
     @Inject
@@ -521,13 +523,15 @@ public abstract class ComponentDescriptor {
         DependencyRequestFactory dependencyRequestFactory,
         ModuleDescriptor.Factory moduleDescriptorFactory,
         InjectionAnnotations injectionAnnotations,
-        DaggerSuperficialValidation superficialValidation) {
+        DaggerSuperficialValidation superficialValidation,
+        ProcessingStatistics processingStatistics) {
       this.processingEnv = processingEnv;
       this.bindingFactory = bindingFactory;
       this.dependencyRequestFactory = dependencyRequestFactory;
       this.moduleDescriptorFactory = moduleDescriptorFactory;
       this.injectionAnnotations = injectionAnnotations;
       this.superficialValidation = superficialValidation;
+      this.processingStatistics = processingStatistics;
     }
 
     /** Returns a descriptor for a root component type. */
@@ -703,8 +707,18 @@ public abstract class ComponentDescriptor {
       return descriptor.build();
     }
 
+    /**
+     * Removes {@code descriptor} and the descriptors of its descendant components from the cache,
+     * so that they can be garbage collected before the end of the round.
+     */
+    public void release(ComponentDescriptor descriptor) {
+      cache.remove(descriptor.typeElement());
+      descriptor.childComponents().forEach(this::release);
+    }
+
     @Override
     public void clearCache() {
+      processingStatistics.add("component descriptors cached at the end of a round", cache.size());
       cache.clear();
     }
   }
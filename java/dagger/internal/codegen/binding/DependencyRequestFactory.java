@@ -35,6 +35,7 @@ import androidx.room.compiler.processing.XElement;
 import androidx.room.compiler.processing.XMethodElement;
 import androidx.room.compiler.processing.XMethodType;
 import androidx.room.compiler.processing.XType;
+import androidx.room.compiler.processing.XTypeElement;
 import androidx.room.compiler.processing.XVariableElement;
 import com.google.common.collect.ImmutableSet;
 import dagger.Lazy;
@@ -184,6 +185,18 @@ public final class DependencyRequestFactory {
         .build();
   }
 
+  /**
+   * Returns a request for the executor that runs the {@code @Produces} methods of {@code module}.
+   *
+   * @see KeyFactory#forProductionImplementationExecutor(XTypeElement)
+   */
+  DependencyRequest forProductionImplementationExecutor(XTypeElement module) {
+    return DependencyRequest.builder()
+        .kind(PROVIDER)
+        .key(keyFactory.forProductionImplementationExecutor(module))
+        .build();
+  }
+
   DependencyRequest forProductionComponentMonitor() {
     return DependencyRequest.builder()
         .kind(PROVIDER)
@@ -24,6 +24,7 @@ import static dagger.internal.codegen.base.ProducerAnnotations.productionQualifi
 import static dagger.internal.codegen.base.RequestKinds.extractKeyType;
 import static dagger.internal.codegen.binding.MapKeys.getMapKey;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
+import static dagger.internal.codegen.javapoet.TypeNames.isCompletionStageType;
 import static dagger.internal.codegen.javapoet.TypeNames.isFutureType;
 import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
 import static dagger.internal.codegen.xprocessing.XTypes.unwrapType;
@@ -34,9 +35,11 @@ import androidx.room.compiler.processing.XMethodType;
 import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.XType;
 import androidx.room.compiler.processing.XTypeElement;
+import com.google.common.collect.ImmutableSet;
 import com.squareup.javapoet.ClassName;
 import dagger.Binds;
 import dagger.BindsOptionalOf;
+import dagger.internal.codegen.base.ClearableCache;
 import dagger.internal.codegen.base.ContributionType;
 import dagger.internal.codegen.base.FrameworkTypes;
 import dagger.internal.codegen.base.MapType;
@@ -52,15 +55,29 @@ import dagger.internal.codegen.model.DaggerTypeElement;
 import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.model.RequestKind;
 import dagger.internal.codegen.xprocessing.XAnnotations;
+import dagger.internal.codegen.xprocessing.XTypes;
 import dagger.multibindings.Multibinds;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 
-/** A factory for {@link Key}s. */
-public final class KeyFactory {
+/**
+ * A factory for {@link Key}s.
+ *
+ * <p>All keys returned by this factory are interned for the current processing round, so
+ * structurally equal keys (and their {@link DaggerType}s) are identical objects. This lets the
+ * equality checks done while resolving binding graphs short-circuit on identity instead of
+ * comparing types via {@link XTypes#equivalence()}.
+ */
+@Singleton
+public final class KeyFactory implements ClearableCache {
   private final XProcessingEnv processingEnv;
   private final CompilerOptions compilerOptions;
   private final InjectionAnnotations injectionAnnotations;
+  private final Map<Key, Key> internedKeys = new HashMap<>();
+  private final Map<DaggerType, DaggerType> internedTypes = new HashMap<>();
 
   @Inject
   KeyFactory(
@@ -88,7 +105,7 @@ public final class KeyFactory {
    * extracted} from {@code T}.
    */
   Key optionalOf(Key key) {
-    return key.withType(DaggerType.from(optionalOf(key.type().xprocessing())));
+    return intern(key.withType(DaggerType.from(optionalOf(key.type().xprocessing()))));
   }
 
   private XType optionalOf(XType type) {
@@ -157,7 +174,9 @@ public final class KeyFactory {
     ContributionType contributionType = ContributionType.fromBindingElement(method);
     XType returnType = methodType.getReturnType();
     if (frameworkClassName.isPresent() && frameworkClassName.get().equals(TypeNames.PRODUCER)) {
-      if (isFutureType(returnType)) {
+      if (isFutureType(returnType)
+          || (compilerOptions.completionStageProducesMethods()
+              && isCompletionStageType(returnType))) {
         returnType = getOnlyElement(returnType.getTypeArguments());
       } else if (contributionType.equals(ContributionType.SET_VALUES)
           && SetType.isSet(returnType)) {
@@ -171,8 +190,9 @@ public final class KeyFactory {
     Key key = forMethod(method, keyType);
     return contributionType.equals(ContributionType.UNIQUE)
         ? key
-        : key.withMultibindingContributionIdentifier(
-            DaggerTypeElement.from(contributingModule), DaggerExecutableElement.from(method));
+        : intern(
+            key.withMultibindingContributionIdentifier(
+                DaggerTypeElement.from(contributingModule), DaggerExecutableElement.from(method)));
   }
 
   /**
@@ -258,7 +278,7 @@ public final class KeyFactory {
   }
 
   Key forType(XType type) {
-    return Key.builder(DaggerType.from(type)).build();
+    return intern(Key.builder(DaggerType.from(type)).build());
   }
 
   public Key forMembersInjectedType(XType type) {
@@ -266,21 +286,43 @@ public final class KeyFactory {
   }
 
   Key forQualifiedType(Optional<XAnnotation> qualifier, XType type) {
-    return Key.builder(DaggerType.from(type.boxed()))
-        .qualifier(qualifier.map(DaggerAnnotation::from))
-        .build();
+    return intern(
+        Key.builder(DaggerType.from(type.boxed()))
+            .qualifier(qualifier.map(DaggerAnnotation::from))
+            .build());
   }
 
   public Key forProductionExecutor() {
-    return Key.builder(DaggerType.from(processingEnv.requireType(TypeNames.EXECUTOR)))
-        .qualifier(DaggerAnnotation.from(productionQualifier(processingEnv)))
-        .build();
+    return intern(
+        Key.builder(DaggerType.from(processingEnv.requireType(TypeNames.EXECUTOR)))
+            .qualifier(DaggerAnnotation.from(productionQualifier(processingEnv)))
+            .build());
   }
 
   public Key forProductionImplementationExecutor() {
-    return Key.builder(DaggerType.from(processingEnv.requireType(TypeNames.EXECUTOR)))
-        .qualifier(DaggerAnnotation.from(productionImplementationQualifier(processingEnv)))
-        .build();
+    return intern(
+        Key.builder(DaggerType.from(processingEnv.requireType(TypeNames.EXECUTOR)))
+            .qualifier(DaggerAnnotation.from(productionImplementationQualifier(processingEnv)))
+            .build());
+  }
+
+  /**
+   * Returns the key for the executor that runs the {@code @Produces} methods of {@code module}.
+   * With {@link CompilerOptions#qualifiedProducerModuleExecutors()}, this is the {@code Executor}
+   * qualified with the module's {@link javax.inject.Qualifier}, if it has one. Otherwise it is the
+   * {@linkplain #forProductionImplementationExecutor() production implementation executor}.
+   */
+  public Key forProductionImplementationExecutor(XTypeElement module) {
+    if (!compilerOptions.qualifiedProducerModuleExecutors()) {
+      return forProductionImplementationExecutor();
+    }
+    ImmutableSet<XAnnotation> qualifiers = injectionAnnotations.getQualifiers(module);
+    // More than one qualifier is reported by ModuleValidator.
+    return qualifiers.size() == 1
+        ? forQualifiedType(
+            Optional.of(getOnlyElement(qualifiers)),
+            processingEnv.requireType(TypeNames.EXECUTOR))
+        : forProductionImplementationExecutor();
   }
 
   public Key forProductionComponentMonitor() {
@@ -298,8 +340,9 @@ public final class KeyFactory {
     if (MapType.isMap(key)) {
       MapType mapType = MapType.from(key);
       if (!mapType.isRawType() && mapType.valuesAreFrameworkType()) {
-        return key.withType(
-            DaggerType.from(mapOf(mapType.keyType(), mapType.unwrappedFrameworkValueType())));
+        return intern(
+            key.withType(
+                DaggerType.from(mapOf(mapType.keyType(), mapType.unwrappedFrameworkValueType()))));
       }
     }
     return key;
@@ -328,7 +371,7 @@ public final class KeyFactory {
         }
         XType wrappedValueType =
             processingEnv.getDeclaredType(frameworkTypeElement, mapType.valueType());
-        return key.withType(DaggerType.from(mapOf(mapType.keyType(), wrappedValueType)));
+        return intern(key.withType(DaggerType.from(mapOf(mapType.keyType(), wrappedValueType))));
       }
     }
     return key;
@@ -343,7 +386,9 @@ public final class KeyFactory {
       SetType setType = SetType.from(key);
       if (!setType.isRawType() && setType.elementsAreTypeOf(wrappingClassName)) {
         return Optional.of(
-            key.withType(DaggerType.from(setOf(setType.unwrappedElementType(wrappingClassName)))));
+            intern(
+                key.withType(
+                    DaggerType.from(setOf(setType.unwrappedElementType(wrappingClassName))))));
       }
     }
     return Optional.empty();
@@ -360,6 +405,39 @@ public final class KeyFactory {
     }
 
     XType optionalValueType = OptionalType.from(key).valueType();
-    return Optional.of(key.withType(DaggerType.from(extractKeyType(optionalValueType))));
+    return Optional.of(intern(key.withType(DaggerType.from(extractKeyType(optionalValueType)))));
+  }
+
+  /**
+   * Returns {@code key} with its multibinding contribution identifier, if any, removed.
+   *
+   * @see Key#withoutMultibindingContributionIdentifier()
+   */
+  Key withoutMultibindingContributionIdentifier(Key key) {
+    return key.multibindingContributionIdentifier().isPresent()
+        ? intern(key.withoutMultibindingContributionIdentifier())
+        : key;
+  }
+
+  /**
+   * Returns the canonical instance of {@code key} for the current processing round.
+   *
+   * <p>The key's {@link DaggerType} is interned as well, so that keys that differ only in their
+   * qualifier or multibinding contribution identifier still share a single type instance.
+   */
+  private Key intern(Key key) {
+    Key interned = internedKeys.get(key);
+    if (interned == null) {
+      DaggerType type = internedTypes.computeIfAbsent(key.type(), t -> t);
+      interned = type == key.type() ? key : key.withType(type);
+      internedKeys.put(interned, interned);
+    }
+    return interned;
+  }
+
+  @Override
+  public void clearCache() {
+    internedKeys.clear();
+    internedTypes.clear();
   }
 }
@@ -44,7 +44,8 @@ public interface BindingGraphValidationModule {
       ProvisionDependencyOnProducerBindingValidator validation9,
       InvalidProductionBindingScopeValidator validation10,
       SetMultibindingValidator validation11,
-      SubcomponentFactoryMethodValidator validation12) {
+      SubcomponentFactoryMethodValidator validation12,
+      UnscopedProducerModuleExecutorValidator validation13) {
     ImmutableSet<ValidationBindingGraphPlugin> plugins =
         ImmutableSet.of(
             validation1,
@@ -58,7 +59,8 @@ public interface BindingGraphValidationModule {
             validation9,
             validation10,
             validation11,
-            validation12);
+            validation12,
+            validation13);
     if (compilerOptions.experimentalDaggerErrorMessages()) {
       return ImmutableSet.of(factory.create(plugins));
     } else {
@@ -43,6 +43,7 @@ import dagger.internal.codegen.base.Formatter;
 import dagger.internal.codegen.base.MapType;
 import dagger.internal.codegen.base.OptionalType;
 import dagger.internal.codegen.binding.DependencyRequestFormatter;
+import dagger.internal.codegen.extension.ShortestPathTree;
 import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.model.Binding;
 import dagger.internal.codegen.model.BindingGraph;
@@ -53,7 +54,9 @@ import dagger.internal.codegen.model.BindingKind;
 import dagger.internal.codegen.model.DiagnosticReporter;
 import dagger.internal.codegen.model.RequestKind;
 import dagger.internal.codegen.validation.ValidationBindingGraphPlugin;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -85,9 +88,12 @@ final class DependencyCycleValidator extends ValidationBindingGraphPlugin {
     // Check each endpoint pair only once, no matter how many parallel edges connect them.
     Set<EndpointPair<Node>> dependencyEndpointPairs = dependencyGraph.asGraph().edges();
     Set<EndpointPair<Node>> visited = newHashSetWithExpectedSize(dependencyEndpointPairs.size());
+    // Cycles in the same component share a search tree from that component.
+    Map<ComponentNode, ShortestPathTree<Node>> componentTrees = new HashMap<>();
     for (EndpointPair<Node> endpointPair : dependencyEndpointPairs) {
       cycleContainingEndpointPair(endpointPair, dependencyGraph, visited)
-          .ifPresent(cycle -> reportCycle(cycle, bindingGraph, diagnosticReporter));
+          .ifPresent(
+              cycle -> reportCycle(cycle, bindingGraph, componentTrees, diagnosticReporter));
     }
   }
 
@@ -129,7 +135,10 @@ final class DependencyCycleValidator extends ValidationBindingGraphPlugin {
    * components, so that binding cannot depend on the next binding in the cycle.
    */
   private void reportCycle(
-      Cycle<Node> cycle, BindingGraph bindingGraph, DiagnosticReporter diagnosticReporter) {
+      Cycle<Node> cycle,
+      BindingGraph bindingGraph,
+      Map<ComponentNode, ShortestPathTree<Node>> componentTrees,
+      DiagnosticReporter diagnosticReporter) {
     if (bindingGraph.isFullBindingGraph()) {
       diagnosticReporter.reportComponent(
           ERROR,
@@ -138,7 +147,8 @@ final class DependencyCycleValidator extends ValidationBindingGraphPlugin {
       return;
     }
 
-    ImmutableList<Node> path = shortestPathToCycleFromAnEntryPoint(cycle, bindingGraph);
+    ImmutableList<Node> path =
+        shortestPathToCycleFromAnEntryPoint(cycle, bindingGraph, componentTrees);
     Node cycleStartNode = path.get(path.size() - 1);
     Node previousNode = path.get(path.size() - 2);
     DependencyEdge dependencyToReport =
@@ -152,12 +162,19 @@ final class DependencyCycleValidator extends ValidationBindingGraphPlugin {
   }
 
   private ImmutableList<Node> shortestPathToCycleFromAnEntryPoint(
-      Cycle<Node> cycle, BindingGraph bindingGraph) {
+      Cycle<Node> cycle,
+      BindingGraph bindingGraph,
+      Map<ComponentNode, ShortestPathTree<Node>> componentTrees) {
     Node someCycleNode = cycle.nodes().asList().get(0);
     ComponentNode componentContainingCycle =
         bindingGraph.componentNode(someCycleNode.componentPath()).get();
     ImmutableList<Node> pathToCycle =
-        shortestPath(bindingGraph.network(), componentContainingCycle, someCycleNode);
+        componentTrees
+            .computeIfAbsent(
+                componentContainingCycle,
+                component ->
+                    ShortestPathTree.create(bindingGraph.network(), ImmutableList.of(component)))
+            .pathTo(someCycleNode);
     return subpathToCycle(pathToCycle, cycle);
   }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.bindinggraphvalidation;
+
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import com.google.common.collect.ImmutableSet;
+import dagger.internal.codegen.binding.KeyFactory;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.Binding;
+import dagger.internal.codegen.model.BindingGraph;
+import dagger.internal.codegen.model.BindingKind;
+import dagger.internal.codegen.model.DiagnosticReporter;
+import dagger.internal.codegen.model.Key;
+import dagger.internal.codegen.validation.ValidationBindingGraphPlugin;
+import javax.inject.Inject;
+
+/**
+ * Reports an error for each unscoped binding of the qualified {@code Executor} of a qualified
+ * {@code @ProducerModule}.
+ *
+ * <p>The executor is requested once by every producer of the module, so an unscoped binding would
+ * create an executor for each of them. The default {@code @ProductionImplementation} executor is
+ * bound in {@code @ProductionScope} for the same reason.
+ */
+final class UnscopedProducerModuleExecutorValidator extends ValidationBindingGraphPlugin {
+  private final CompilerOptions compilerOptions;
+  private final KeyFactory keyFactory;
+
+  @Inject
+  UnscopedProducerModuleExecutorValidator(
+      CompilerOptions compilerOptions, KeyFactory keyFactory) {
+    this.compilerOptions = compilerOptions;
+    this.keyFactory = keyFactory;
+  }
+
+  @Override
+  public String pluginName() {
+    return "Dagger/UnscopedProducerModuleExecutor";
+  }
+
+  @Override
+  public void visitGraph(BindingGraph bindingGraph, DiagnosticReporter diagnosticReporter) {
+    if (!compilerOptions.qualifiedProducerModuleExecutors()) {
+      return;
+    }
+    Key productionImplementationExecutorKey = keyFactory.forProductionImplementationExecutor();
+    ImmutableSet<Key> qualifiedExecutorKeys =
+        bindingGraph.bindings().stream()
+            .filter(binding -> binding.kind().equals(BindingKind.PRODUCTION))
+            .filter(binding -> binding.contributingModule().isPresent())
+            .map(
+                binding ->
+                    keyFactory.forProductionImplementationExecutor(
+                        binding.contributingModule().get().xprocessing()))
+            .filter(key -> !key.equals(productionImplementationExecutorKey))
+            .collect(toImmutableSet());
+    qualifiedExecutorKeys.stream()
+        .flatMap(key -> bindingGraph.bindings(key).stream())
+        .filter(binding -> !createsSingleInstance(binding, bindingGraph))
+        .forEach(
+            binding ->
+                diagnosticReporter.reportBinding(
+                    ERROR,
+                    binding,
+                    "%s is the executor of a qualified @ProducerModule, so it must be scoped, "
+                        + "e.g. with @ProductionScope. Otherwise each producer of the module "
+                        + "gets its own executor.",
+                    binding.key()));
+  }
+
+  private static boolean createsSingleInstance(Binding binding, BindingGraph bindingGraph) {
+    if (binding.scope().isPresent()) {
+      return true;
+    }
+    switch (binding.kind()) {
+      case BOUND_INSTANCE:
+      case COMPONENT_PROVISION:
+        return true;
+      case DELEGATE:
+        return bindingGraph.requestedBindings(binding).stream()
+            .allMatch(delegate -> createsSingleInstance(delegate, bindingGraph));
+      default:
+        return false;
+    }
+  }
+}
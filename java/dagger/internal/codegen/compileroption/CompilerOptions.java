@@ -157,4 +157,85 @@ public abstract class CompilerOptions {
    * for {@code Foo<? extends Bar>} and {@code Foo<Bar>} would result in a duplicate binding error.
    */
   public abstract boolean ignoreProvisionKeyWildcards();
+
+  /**
+   * Returns {@code true} if the JavaPoet files for root components processed in the same round
+   * should be rendered in parallel.
+   *
+   * <p>Binding graphs and {@code TypeSpec}s are still built on the processing thread, since the
+   * processing environment is not thread-safe. Files are written in a deterministic order, so the
+   * generated output is identical to the serial mode. The default value is {@code false}.
+   *
+   * <p>This has no effect if {@link #releaseComponentDescriptors()} is enabled.
+   */
+  public abstract boolean parallelComponentGeneration();
+
+  /**
+   * Returns {@code true} if the processor should report counters describing the work it did, such
+   * as how many superficial validations were served from a cache, as a note at the end of
+   * processing. The default value is {@code false}.
+   */
+  public abstract boolean reportProcessingStatistics();
+
+  /**
+   * Returns {@code true} if the factories and members injectors generated for the bindings of a
+   * module or for {@code @Inject} types should be rendered in parallel and written in one batch at
+   * the end of the step, rather than one at a time.
+   *
+   * <p>As with {@link #parallelComponentGeneration()}, the {@code TypeSpec}s are still built on the
+   * processing thread and the files are written in a deterministic order. The default value is
+   * {@code false}.
+   */
+  public abstract boolean parallelFactoryGeneration();
+
+  /**
+   * Returns true if the members injection methods of a component should write the fields and call
+   * the methods of accessible injection sites directly, rather than through the static methods of
+   * each class's {@code MembersInjector}.
+   */
+  public abstract boolean flattenedMembersInjection();
+
+  /**
+   * Returns {@code true} if component fields that are initialized with a {@code DelegateFactory} or
+   * {@code DelegateProducer} to break a dependency cycle should be reassigned to the final
+   * framework instance once it is created, so that later reads of the field don't go through the
+   * delegate.
+   */
+  public abstract boolean rewireDelegateFactories();
+
+  /**
+   * Returns {@code true} if a class list resource should be written for each root component,
+   * listing the generated classes its implementation uses in the format read by {@code
+   * -XX:SharedClassListFile}, so that they can be added to a class data sharing archive.
+   */
+  public abstract boolean componentClassList();
+
+  /**
+   * Returns {@code true} if the descriptors of a root component and its subcomponents should be
+   * released as soon as the component is generated, rather than being cached until the end of the
+   * round.
+   *
+   * <p>Only the cache of {@code ComponentDescriptor.Factory} is affected. The other per-round
+   * caches, such as the keys and types interned by {@code KeyFactory} and the module descriptors,
+   * are still cleared only at the end of the round, because they are shared between components.
+   *
+   * <p>Each root component is also written as soon as it is generated, even if {@link
+   * #parallelComponentGeneration()} is enabled. Otherwise its files would be held until the end of
+   * the step, and rendered outside of the component's allocation statistic.
+   */
+  public abstract boolean releaseComponentDescriptors();
+
+  /**
+   * Returns {@code true} if the {@code @Produces} methods of a {@code @ProducerModule} annotated
+   * with a qualifier should run on the {@code Executor} bound with that qualifier, rather than on
+   * the {@code @Production} executor.
+   */
+  public abstract boolean qualifiedProducerModuleExecutors();
+
+  /**
+   * Returns {@code true} if {@code @Produces} methods that return a {@code CompletionStage<T>} or
+   * {@code CompletableFuture<T>} should bind {@code T}, like those that return a {@code
+   * ListenableFuture<T>}. Otherwise they bind the returned stage itself.
+   */
+  public abstract boolean completionStageProducesMethods();
 }
@@ -22,16 +22,25 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Sets.immutableEnumSet;
 import static dagger.internal.codegen.compileroption.FeatureStatus.DISABLED;
 import static dagger.internal.codegen.compileroption.FeatureStatus.ENABLED;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.COMPLETION_STAGE_PRODUCES_METHODS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.COMPONENT_CLASS_LIST;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_AHEAD_OF_TIME_SUBCOMPONENTS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_ANDROID_MODE;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_DAGGER_ERROR_MESSAGES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FAST_INIT;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FLATTENED_MEMBERS_INJECTION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FLOATING_BINDS_METHODS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FORMAT_GENERATED_SOURCE;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.GENERATED_CLASS_EXTENDS_COMPONENT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.IGNORE_PROVISION_KEY_WILDCARDS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INCLUDE_STACKTRACE_WITH_DEFERRED_ERROR_MESSAGES;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PARALLEL_COMPONENT_GENERATION;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PARALLEL_FACTORY_GENERATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PLUGINS_VISIT_FULL_BINDING_GRAPHS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.QUALIFIED_PRODUCER_MODULE_EXECUTORS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.RELEASE_COMPONENT_DESCRIPTORS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.REPORT_PROCESSING_STATISTICS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.REWIRE_DELEGATE_FACTORIES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_MULTIBINDING_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_SUPERFICIAL_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_BINDING_GRAPH_FIX;
@@ -209,6 +218,51 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(USE_BINDING_GRAPH_FIX);
   }
 
+  @Override
+  public boolean parallelComponentGeneration() {
+    return isEnabled(PARALLEL_COMPONENT_GENERATION);
+  }
+
+  @Override
+  public boolean reportProcessingStatistics() {
+    return isEnabled(REPORT_PROCESSING_STATISTICS);
+  }
+
+  @Override
+  public boolean parallelFactoryGeneration() {
+    return isEnabled(PARALLEL_FACTORY_GENERATION);
+  }
+
+  @Override
+  public boolean flattenedMembersInjection() {
+    return isEnabled(FLATTENED_MEMBERS_INJECTION);
+  }
+
+  @Override
+  public boolean rewireDelegateFactories() {
+    return isEnabled(REWIRE_DELEGATE_FACTORIES);
+  }
+
+  @Override
+  public boolean componentClassList() {
+    return isEnabled(COMPONENT_CLASS_LIST);
+  }
+
+  @Override
+  public boolean releaseComponentDescriptors() {
+    return isEnabled(RELEASE_COMPONENT_DESCRIPTORS);
+  }
+
+  @Override
+  public boolean qualifiedProducerModuleExecutors() {
+    return isEnabled(QUALIFIED_PRODUCER_MODULE_EXECUTORS);
+  }
+
+  @Override
+  public boolean completionStageProducesMethods() {
+    return isEnabled(COMPLETION_STAGE_PRODUCES_METHODS);
+  }
+
   @Override
   public int keysPerComponentShard(XTypeElement component) {
     if (options.containsKey(KEYS_PER_COMPONENT_SHARD)) {
@@ -348,7 +402,25 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
     IGNORE_PROVISION_KEY_WILDCARDS(ENABLED),
 
-    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED)
+    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED),
+
+    PARALLEL_COMPONENT_GENERATION,
+
+    REPORT_PROCESSING_STATISTICS,
+
+    PARALLEL_FACTORY_GENERATION,
+
+    FLATTENED_MEMBERS_INJECTION,
+
+    REWIRE_DELEGATE_FACTORIES,
+
+    COMPONENT_CLASS_LIST,
+
+    RELEASE_COMPONENT_DESCRIPTORS,
+
+    QUALIFIED_PRODUCER_MODULE_EXECUTORS,
+
+    COMPLETION_STAGE_PRODUCES_METHODS
     ;
 
     final FeatureStatus defaultValue;
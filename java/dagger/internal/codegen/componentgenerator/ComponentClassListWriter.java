@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.componentgenerator;
+
+import static androidx.room.compiler.codegen.XTypeNameKt.toJavaPoet;
+import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForBinding;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import androidx.room.compiler.processing.XFiler;
+import androidx.room.compiler.processing.XProcessingEnv;
+import androidx.room.compiler.processing.XTypeElement;
+import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeSpec;
+import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.BindingNode;
+import dagger.internal.codegen.binding.MembersInjectionBinding;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.inject.Inject;
+
+/**
+ * Writes the class list resource of a root component, which lists the classes that the generated
+ * component implementation uses.
+ *
+ * <p>The resource is written next to the generated component, named after it with a {@code
+ * .classlist} extension. It uses the format read by {@code -XX:SharedClassListFile}: one binary
+ * class name per line, with {@code /} as the package separator. It contains the component types,
+ * the classes generated for the component, and the factories and members injectors generated for
+ * the bindings in the component and its subcomponents. The list may include classes that aren't
+ * loaded at runtime, e.g. factories that are replaced by a {@code SwitchingProvider} in fast init
+ * mode, which only costs some space in the archive.
+ */
+final class ComponentClassListWriter {
+  private final XProcessingEnv processingEnv;
+
+  @Inject
+  ComponentClassListWriter(XProcessingEnv processingEnv) {
+    this.processingEnv = processingEnv;
+  }
+
+  /** Writes the class list of the component for {@code bindingGraph}, generated as {@code type}. */
+  void write(BindingGraph bindingGraph, TypeSpec type) {
+    XTypeElement component = bindingGraph.componentTypeElement();
+    Set<ClassName> classes = new LinkedHashSet<>();
+    addGeneratedTypes(ClassName.get(component.getPackageName(), type.name), type, classes);
+    addBindingClasses(bindingGraph, classes);
+
+    StringBuilder contents = new StringBuilder();
+    classes.forEach(
+        className -> contents.append(className.reflectionName().replace('.', '/')).append('\n'));
+    String packagePath = component.getPackageName().replace('.', '/');
+    Path path = Paths.get(packagePath, type.name + ".classlist");
+    try (OutputStream outputStream =
+            processingEnv
+                .getFiler()
+                .writeResource(path, ImmutableList.of(component), XFiler.Mode.Isolating);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8))) {
+      writer.write(contents.toString());
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              ERROR, String.format("Could not write class list %s: %s", path, e), component);
+    }
+  }
+
+  private static void addGeneratedTypes(ClassName name, TypeSpec type, Set<ClassName> classes) {
+    classes.add(name);
+    for (TypeSpec nestedType : type.typeSpecs) {
+      addGeneratedTypes(name.nestedClass(nestedType.name), nestedType, classes);
+    }
+  }
+
+  private static void addBindingClasses(BindingGraph bindingGraph, Set<ClassName> classes) {
+    classes.add(bindingGraph.componentTypeElement().getClassName());
+    for (BindingNode bindingNode : bindingGraph.localBindingNodes()) {
+      if (hasGeneratedClass(bindingNode.delegate())) {
+        classes.add(toJavaPoet(generatedClassNameForBinding(bindingNode.delegate())));
+      }
+    }
+    bindingGraph.subgraphs().forEach(subgraph -> addBindingClasses(subgraph, classes));
+  }
+
+  private static boolean hasGeneratedClass(Binding binding) {
+    switch (binding.kind()) {
+      case INJECTION:
+      case PROVISION:
+      case PRODUCTION:
+      case ASSISTED_INJECTION:
+      case ASSISTED_FACTORY:
+        return binding.bindingElement().isPresent();
+      case MEMBERS_INJECTION:
+        // A members injector is only generated for types with injection sites.
+        return !((MembersInjectionBinding) binding).injectionSites().isEmpty();
+      default:
+        return false;
+    }
+  }
+}
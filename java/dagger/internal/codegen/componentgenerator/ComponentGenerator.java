@@ -24,6 +24,7 @@ import com.squareup.javapoet.TypeSpec;
 import dagger.Component;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.ComponentImplementation;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -31,14 +32,20 @@ import javax.inject.Inject;
 /** Generates the implementation of the abstract types annotated with {@link Component}. */
 final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
   private final TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory;
+  private final CompilerOptions compilerOptions;
+  private final ComponentClassListWriter componentClassListWriter;
 
   @Inject
   ComponentGenerator(
       XFiler filer,
       XProcessingEnv processingEnv,
-      TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory) {
+      TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory,
+      CompilerOptions compilerOptions,
+      ComponentClassListWriter componentClassListWriter) {
     super(filer, processingEnv);
     this.topLevelImplementationComponentFactory = topLevelImplementationComponentFactory;
+    this.compilerOptions = compilerOptions;
+    this.componentClassListWriter = componentClassListWriter;
   }
 
   @Override
@@ -58,6 +65,10 @@ final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
             .parentRequirementExpressions(Optional.empty())
             .build()
             .componentImplementation();
-    return ImmutableList.of(componentImplementation.generate().toBuilder());
+    TypeSpec component = componentImplementation.generate();
+    if (compilerOptions.componentClassList()) {
+      componentClassListWriter.write(bindingGraph, component);
+    }
+    return ImmutableList.of(component.toBuilder());
   }
 }
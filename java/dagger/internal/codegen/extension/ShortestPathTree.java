@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.extension;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.graph.SuccessorsFunction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A breadth-first search tree over a graph, rooted at a sequence of source nodes.
+ *
+ * <p>The tree is computed once and then answers shortest-path queries for any node by walking
+ * parent pointers, which is much cheaper than running {@link DaggerGraphs#shortestPath} separately
+ * for each pair of nodes.
+ *
+ * <p>Each reachable node is assigned to the source it is closest to. When several sources are
+ * equally close, the node is assigned to the one that comes first in the sequence of sources, so
+ * callers can express a preference between sources by ordering them. For a single source, the
+ * paths are the same as those returned by {@link DaggerGraphs#shortestPath}.
+ */
+public final class ShortestPathTree<N> {
+  private static final int NO_PARENT = -1;
+
+  /** Returns the breadth-first search tree of {@code graph} from {@code sources}. */
+  public static <N> ShortestPathTree<N> create(
+      SuccessorsFunction<N> graph, Iterable<? extends N> sources) {
+    ShortestPathTree<N> tree = new ShortestPathTree<>();
+    tree.search(graph, sources);
+    return tree;
+  }
+
+  // Nodes are numbered densely in the order they are visited, so the parent pointers can be held
+  // in a plain int array.
+  private final Map<N, Integer> nodeIds = new HashMap<>();
+  private final List<N> nodes = new ArrayList<>();
+  private int[] parents = new int[16];
+
+  private ShortestPathTree() {}
+
+  private void search(SuccessorsFunction<N> graph, Iterable<? extends N> sources) {
+    for (N source : sources) {
+      visit(source, NO_PARENT);
+    }
+    // Nodes are visited in breadth-first order, so the list of nodes doubles as the queue.
+    for (int current = 0; current < nodes.size(); current++) {
+      for (N successor : graph.successors(nodes.get(current))) {
+        visit(successor, current);
+      }
+    }
+  }
+
+  private void visit(N node, int parent) {
+    if (nodeIds.containsKey(node)) {
+      return; // we already have a shortest path to node
+    }
+    int id = nodes.size();
+    nodeIds.put(node, id);
+    nodes.add(node);
+    if (id == parents.length) {
+      parents = Arrays.copyOf(parents, id * 2);
+    }
+    parents[id] = parent;
+  }
+
+  /** Returns {@code true} if {@code node} is reachable from any of the sources. */
+  public boolean isReachable(N node) {
+    return nodeIds.containsKey(node);
+  }
+
+  /**
+   * Returns the source that {@code node} is closest to, or empty if {@code node} is not reachable
+   * from any of the sources.
+   */
+  public Optional<N> source(N node) {
+    Integer id = nodeIds.get(node);
+    if (id == null) {
+      return Optional.empty();
+    }
+    while (parents[id] != NO_PARENT) {
+      id = parents[id];
+    }
+    return Optional.of(nodes.get(id));
+  }
+
+  /**
+   * Returns a shortest path to {@code node} from the {@linkplain #source(Object) source it is
+   * closest to}, including both the source and {@code node}, or an empty list if {@code node} is
+   * not reachable from any of the sources.
+   */
+  public ImmutableList<N> pathTo(N node) {
+    Integer id = nodeIds.get(node);
+    if (id == null) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<N> path = ImmutableList.builder();
+    for (int current = id; current != NO_PARENT; current = parents[current]) {
+      path.add(nodes.get(current));
+    }
+    return path.build().reverse();
+  }
+}
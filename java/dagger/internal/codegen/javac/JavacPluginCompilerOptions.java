@@ -140,4 +140,49 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
   public boolean ignoreProvisionKeyWildcards() {
     return false;
   }
+
+  @Override
+  public boolean parallelComponentGeneration() {
+    return false;
+  }
+
+  @Override
+  public boolean reportProcessingStatistics() {
+    return false;
+  }
+
+  @Override
+  public boolean parallelFactoryGeneration() {
+    return false;
+  }
+
+  @Override
+  public boolean flattenedMembersInjection() {
+    return false;
+  }
+
+  @Override
+  public boolean rewireDelegateFactories() {
+    return false;
+  }
+
+  @Override
+  public boolean componentClassList() {
+    return false;
+  }
+
+  @Override
+  public boolean releaseComponentDescriptors() {
+    return false;
+  }
+
+  @Override
+  public boolean qualifiedProducerModuleExecutors() {
+    return false;
+  }
+
+  @Override
+  public boolean completionStageProducesMethods() {
+    return false;
+  }
 }
@@ -187,6 +187,10 @@ public final class TypeNames {
       ClassName.get("com.google.common.util.concurrent", "ListenableFuture");
   public static final ClassName FLUENT_FUTURE =
       ClassName.get("com.google.common.util.concurrent", "FluentFuture");
+  public static final ClassName COMPLETION_STAGE =
+      ClassName.get("java.util.concurrent", "CompletionStage");
+  public static final ClassName COMPLETABLE_FUTURE =
+      ClassName.get("java.util.concurrent", "CompletableFuture");
   public static final ClassName GUAVA_OPTIONAL =
       ClassName.get("com.google.common.base", "Optional");
   public static final ClassName JDK_OPTIONAL = ClassName.get("java.util", "Optional");
@@ -260,6 +264,18 @@ public final class TypeNames {
     return FUTURE_TYPES.contains(rawTypeName(typeName));
   }
 
+  private static final ImmutableSet<ClassName> COMPLETION_STAGE_TYPES =
+      ImmutableSet.of(COMPLETION_STAGE, COMPLETABLE_FUTURE);
+
+  /**
+   * Returns {@code true} if the given type is a {@code CompletionStage} or {@code
+   * CompletableFuture}, which {@code @Produces} methods may return instead of a {@code
+   * ListenableFuture}.
+   */
+  public static boolean isCompletionStageType(XType type) {
+    return COMPLETION_STAGE_TYPES.contains(rawTypeName(type.getTypeName()));
+  }
+
   /**
    * Returns the {@link TypeName} for the raw type of the given {@link TypeName}. If the argument
    * isn't a parameterized type, it returns the argument unchanged.
@@ -20,6 +20,7 @@ import static androidx.room.compiler.processing.compat.XConverters.toJavac;
 
 import androidx.room.compiler.processing.XType;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
 import dagger.internal.codegen.xprocessing.XTypes;
@@ -43,6 +44,15 @@ public abstract class DaggerType {
     return toJavac(xprocessing());
   }
 
+  // Computing the hash code via XTypes.equivalence() walks the whole type, so we memoize it. Note
+  // that KeyFactory interns DaggerType instances, so equals() usually short-circuits on identity.
+  @Memoized
+  @Override
+  public abstract int hashCode();
+
+  @Override
+  public abstract boolean equals(Object o);
+
   @Override
   public final String toString() {
     // We define our own stable string rather than use XType#toString() here because
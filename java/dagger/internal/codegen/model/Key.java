@@ -73,9 +73,8 @@ public abstract class Key {
     return toBuilder().multibindingContributionIdentifier(Optional.empty()).build();
   }
 
-  // The main hashCode/equality bottleneck is in MoreTypes.equivalence(). It's possible that we can
-  // avoid this by tuning that method. Perhaps we can also avoid the issue entirely by interning all
-  // Keys
+  // The main hashCode/equality bottleneck is in XTypes.equivalence(). To avoid it, KeyFactory
+  // interns all keys per processing round, so equals() usually short-circuits on identity.
   @Memoized
   @Override
   public abstract int hashCode();
@@ -23,22 +23,29 @@ import static dagger.internal.codegen.base.ComponentAnnotation.subcomponentAnnot
 import static dagger.internal.codegen.base.ComponentCreatorAnnotation.allCreatorAnnotations;
 import static java.util.Collections.disjoint;
 
+import androidx.room.compiler.processing.XElement;
 import androidx.room.compiler.processing.XMessager;
+import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.XTypeElement;
 import com.google.auto.common.BasicAnnotationProcessor.ProcessingStep;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.squareup.javapoet.ClassName;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.SourceFileGenerator;
+import dagger.internal.codegen.base.SourceFileGenerator.PendingSourceFile;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingGraphFactory;
+import dagger.internal.codegen.binding.BindingGraphFactory.FullAndReachableBindingGraphs;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.validation.BindingGraphValidator;
 import dagger.internal.codegen.validation.ComponentCreatorValidator;
 import dagger.internal.codegen.validation.ComponentDescriptorValidator;
 import dagger.internal.codegen.validation.ComponentValidator;
 import dagger.internal.codegen.validation.ValidationReport;
+import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 
@@ -55,6 +62,10 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
   private final BindingGraphFactory bindingGraphFactory;
   private final SourceFileGenerator<BindingGraph> componentGenerator;
   private final BindingGraphValidator bindingGraphValidator;
+  private final ProcessingStatistics processingStatistics;
+  // Source files for root components that are rendered and written at the end of the step when
+  // parallel component generation is enabled.
+  private ImmutableList.Builder<PendingSourceFile> pendingComponentFiles = ImmutableList.builder();
 
   @Inject
   ComponentProcessingStep(
@@ -65,7 +76,8 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
       ComponentDescriptor.Factory componentDescriptorFactory,
       BindingGraphFactory bindingGraphFactory,
       SourceFileGenerator<BindingGraph> componentGenerator,
-      BindingGraphValidator bindingGraphValidator) {
+      BindingGraphValidator bindingGraphValidator,
+      ProcessingStatistics processingStatistics) {
     this.messager = messager;
     this.componentValidator = componentValidator;
     this.creatorValidator = creatorValidator;
@@ -74,6 +86,7 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
     this.bindingGraphFactory = bindingGraphFactory;
     this.componentGenerator = componentGenerator;
     this.bindingGraphValidator = bindingGraphValidator;
+    this.processingStatistics = processingStatistics;
   }
 
   @Override
@@ -81,6 +94,20 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
     return union(allComponentAnnotations(), allCreatorAnnotations());
   }
 
+  @Override
+  public ImmutableSet<XElement> process(
+      XProcessingEnv env, Map<String, ? extends Set<? extends XElement>> elementsByAnnotation) {
+    ImmutableSet<XElement> deferredElements = super.process(env, elementsByAnnotation);
+    ImmutableList<PendingSourceFile> sourceFiles = pendingComponentFiles.build();
+    pendingComponentFiles = ImmutableList.builder();
+    if (!sourceFiles.isEmpty()) {
+      processingStatistics.add(
+          "bytes generated by ComponentProcessingStep",
+          componentGenerator.writeInParallel(sourceFiles, messager));
+    }
+    return deferredElements;
+  }
+
   @Override
   protected void process(XTypeElement element, ImmutableSet<ClassName> annotations) {
     if (!disjoint(annotations, rootComponentAnnotations())) {
@@ -95,6 +122,20 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
   }
 
   private void processRootComponent(XTypeElement component) {
+    if (!compilerOptions.reportProcessingStatistics()) {
+      generateRootComponent(component);
+      return;
+    }
+    long allocatedBytes = ProcessingStatistics.currentThreadAllocatedBytes();
+    generateRootComponent(component);
+    if (allocatedBytes >= 0) {
+      processingStatistics.add(
+          "bytes allocated for " + component.getQualifiedName(),
+          ProcessingStatistics.currentThreadAllocatedBytes() - allocatedBytes);
+    }
+  }
+
+  private void generateRootComponent(XTypeElement component) {
     if (!isComponentValid(component)) {
       return;
     }
@@ -103,17 +144,42 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
     if (!isValid(componentDescriptor)) {
       return;
     }
+    try {
+      validateAndGenerateComponent(componentDescriptor);
+    } finally {
+      if (compilerOptions.releaseComponentDescriptors()) {
+        // The graphs created from the descriptor are only referenced from the stack, so releasing
+        // the cached descriptors lets the whole component be collected before the round ends.
+        componentDescriptorFactory.release(componentDescriptor);
+      }
+    }
+  }
 
-    Supplier<dagger.internal.codegen.model.BindingGraph> fullBindingGraphSupplier =
-        Suppliers.memoize(
-            () -> bindingGraphFactory.create(componentDescriptor, true).topLevelBindingGraph());
+  private void validateAndGenerateComponent(ComponentDescriptor componentDescriptor) {
+    XTypeElement component = componentDescriptor.typeElement();
     if (bindingGraphValidator.shouldDoFullBindingGraphValidation(component)) {
-      if (!bindingGraphValidator.isValid(fullBindingGraphSupplier.get())) {
-        return;
+      // The reachable binding graph is derived from the full binding graph when possible, rather
+      // than resolving the component a second time.
+      FullAndReachableBindingGraphs bindingGraphs =
+          bindingGraphFactory.createFullAndReachable(componentDescriptor);
+      dagger.internal.codegen.model.BindingGraph fullBindingGraph =
+          bindingGraphs.fullBindingGraph().topLevelBindingGraph();
+      if (bindingGraphValidator.isValid(fullBindingGraph)) {
+        validateAndGenerateComponent(
+            bindingGraphs.reachableBindingGraph(), () -> fullBindingGraph);
       }
+      return;
     }
 
-    BindingGraph bindingGraph = bindingGraphFactory.create(componentDescriptor, false);
+    validateAndGenerateComponent(
+        bindingGraphFactory.create(componentDescriptor, false),
+        Suppliers.memoize(
+            () -> bindingGraphFactory.create(componentDescriptor, true).topLevelBindingGraph()));
+  }
+
+  private void validateAndGenerateComponent(
+      BindingGraph bindingGraph,
+      Supplier<dagger.internal.codegen.model.BindingGraph> fullBindingGraphSupplier) {
     if (bindingGraphValidator.isValid(
         bindingGraph.topLevelBindingGraph(), fullBindingGraphSupplier)) {
       generateComponent(bindingGraph);
@@ -138,7 +204,14 @@ final class ComponentProcessingStep extends TypeCheckingProcessingStep<XTypeElem
   }
 
   private void generateComponent(BindingGraph bindingGraph) {
-    componentGenerator.generate(bindingGraph, messager);
+    // When descriptors are released, each component is written right away so that its files don't
+    // outlive the component, and so that rendering them is measured with the component.
+    if (compilerOptions.parallelComponentGeneration()
+        && !compilerOptions.releaseComponentDescriptors()) {
+      pendingComponentFiles.addAll(componentGenerator.pendingSourceFiles(bindingGraph));
+    } else {
+      componentGenerator.generate(bindingGraph, messager);
+    }
   }
 
   private void processCreator(XTypeElement creator) {
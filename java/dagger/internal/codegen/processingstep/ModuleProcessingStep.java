@@ -25,10 +25,13 @@ import androidx.room.compiler.processing.XMethodElement;
 import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.XTypeElement;
 import com.google.auto.common.BasicAnnotationProcessor.ProcessingStep;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.squareup.javapoet.ClassName;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.SourceFileGenerator;
+import dagger.internal.codegen.base.SourceFileGenerator.PendingSourceFile;
 import dagger.internal.codegen.binding.BindingFactory;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.DelegateDeclaration;
@@ -55,7 +58,11 @@ final class ModuleProcessingStep extends TypeCheckingProcessingStep<XTypeElement
   private final SourceFileGenerator<XTypeElement> moduleConstructorProxyGenerator;
   private final InaccessibleMapKeyProxyGenerator inaccessibleMapKeyProxyGenerator;
   private final DelegateDeclaration.Factory delegateDeclarationFactory;
+  private final ProcessingStatistics processingStatistics;
   private final Set<XTypeElement> processedModuleElements = Sets.newLinkedHashSet();
+  // Factories for binding methods that are rendered and written at the end of the step when
+  // parallel factory generation is enabled.
+  private ImmutableList.Builder<PendingSourceFile> pendingFactoryFiles = ImmutableList.builder();
 
   @Inject
   ModuleProcessingStep(
@@ -66,7 +73,8 @@ final class ModuleProcessingStep extends TypeCheckingProcessingStep<XTypeElement
       SourceFileGenerator<ProductionBinding> producerFactoryGenerator,
       @ModuleGenerator SourceFileGenerator<XTypeElement> moduleConstructorProxyGenerator,
       InaccessibleMapKeyProxyGenerator inaccessibleMapKeyProxyGenerator,
-      DelegateDeclaration.Factory delegateDeclarationFactory) {
+      DelegateDeclaration.Factory delegateDeclarationFactory,
+      ProcessingStatistics processingStatistics) {
     this.messager = messager;
     this.moduleValidator = moduleValidator;
     this.bindingFactory = bindingFactory;
@@ -75,6 +83,7 @@ final class ModuleProcessingStep extends TypeCheckingProcessingStep<XTypeElement
     this.moduleConstructorProxyGenerator = moduleConstructorProxyGenerator;
     this.inaccessibleMapKeyProxyGenerator = inaccessibleMapKeyProxyGenerator;
     this.delegateDeclarationFactory = delegateDeclarationFactory;
+    this.processingStatistics = processingStatistics;
   }
 
   @Override
@@ -91,7 +100,17 @@ final class ModuleProcessingStep extends TypeCheckingProcessingStep<XTypeElement
             // This cast is safe because @Module has @Target(ElementType.TYPE)
             .map(XTypeElement.class::cast)
             .collect(toImmutableSet()));
-    return super.process(env, elementsByAnnotation);
+    ImmutableSet<XElement> deferredElements = super.process(env, elementsByAnnotation);
+    ImmutableList<PendingSourceFile> factoryFiles = pendingFactoryFiles.build();
+    pendingFactoryFiles = ImmutableList.builder();
+    if (!factoryFiles.isEmpty()) {
+      // Writing only depends on the filer, which is shared by all generators, so the producer
+      // factories can be written along with the provision factories.
+      processingStatistics.add(
+          "bytes generated by ModuleProcessingStep",
+          factoryGenerator.writeInParallel(factoryFiles, messager));
+    }
+    return deferredElements;
   }
 
   @Override
@@ -138,7 +157,11 @@ final class ModuleProcessingStep extends TypeCheckingProcessingStep<XTypeElement
 
   private <B extends ContributionBinding> void generate(
       SourceFileGenerator<B> generator, B binding) {
-    generator.generate(binding, messager);
+    if (compilerOptions.parallelFactoryGeneration()) {
+      pendingFactoryFiles.addAll(generator.pendingSourceFiles(binding));
+    } else {
+      generator.generate(binding, messager);
+    }
     inaccessibleMapKeyProxyGenerator.generate(binding, messager);
   }
 
@@ -23,30 +23,58 @@ import androidx.room.compiler.processing.XTypeElement;
 import dagger.internal.codegen.base.ClearableCache;
 import dagger.internal.codegen.base.DaggerSuperficialValidation;
 import dagger.internal.codegen.base.DaggerSuperficialValidation.ValidationException;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-/** Validates enclosing type elements in a round. */
+/**
+ * Validates enclosing type elements, sharing the results between all processing steps.
+ *
+ * <p>Results are cached for the current round. Types that are found to be valid are also
+ * remembered by name for later rounds: a type without error types can't gain one later, so it
+ * never needs to be walked again, even if it is deferred or requested again in a later round.
+ */
 @Singleton
 final class SuperficialValidator implements ClearableCache {
 
   private final DaggerSuperficialValidation superficialValidation;
+  private final ProcessingStatistics statistics;
   private final Map<XTypeElement, Optional<ValidationException>> validationExceptions =
       new HashMap<>();
+  // Not cleared between rounds. Names rather than elements, since elements are only valid for
+  // the round they were created in.
+  private final Set<String> validTypeNames = new HashSet<>();
+  // Counted locally since this runs for every processed element, and added to the processing
+  // statistics once per round in clearCache().
+  private int currentRoundHits;
+  private int earlierRoundHits;
+  private int validations;
 
   @Inject
-  SuperficialValidator(DaggerSuperficialValidation superficialValidation) {
+  SuperficialValidator(
+      DaggerSuperficialValidation superficialValidation, ProcessingStatistics statistics) {
     this.superficialValidation = superficialValidation;
+    this.statistics = statistics;
   }
 
   void throwIfNearestEnclosingTypeNotValid(XElement element) {
-    Optional<ValidationException> validationException =
-        validationExceptions.computeIfAbsent(
-            closestEnclosingTypeElement(element),
-            this::validationExceptionsUncached);
+    XTypeElement typeElement = closestEnclosingTypeElement(element);
+    Optional<ValidationException> validationException = validationExceptions.get(typeElement);
+    if (validationException != null) {
+      currentRoundHits++;
+    } else if (validTypeNames.contains(typeElement.getQualifiedName())) {
+      earlierRoundHits++;
+      validationException = Optional.empty();
+      validationExceptions.put(typeElement, validationException);
+    } else {
+      validationException = validationExceptionsUncached(typeElement);
+      validationExceptions.put(typeElement, validationException);
+    }
 
     if (validationException.isPresent()) {
       throw validationException.get();
@@ -54,16 +82,34 @@ final class SuperficialValidator implements ClearableCache {
   }
 
   private Optional<ValidationException> validationExceptionsUncached(XTypeElement element) {
+    validations++;
     try {
       superficialValidation.validateElement(element);
     } catch (ValidationException validationException) {
       return Optional.of(validationException);
     }
+    validTypeNames.add(element.getQualifiedName());
     return Optional.empty();
   }
 
   @Override
   public void clearCache() {
     validationExceptions.clear();
+    publishStatistics();
+  }
+
+  private void publishStatistics() {
+    if (currentRoundHits > 0) {
+      statistics.add("superficial validations served from the current round", currentRoundHits);
+    }
+    if (earlierRoundHits > 0) {
+      statistics.add("superficial validations served from an earlier round", earlierRoundHits);
+    }
+    if (validations > 0) {
+      statistics.add("superficial validations", validations);
+    }
+    currentRoundHits = 0;
+    earlierRoundHits = 0;
+    validations = 0;
   }
 }
@@ -25,7 +25,6 @@ import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.indexOf;
 import static com.google.common.collect.Iterables.transform;
 import static dagger.internal.codegen.base.ElementFormatter.elementToString;
-import static dagger.internal.codegen.extension.DaggerGraphs.shortestPath;
 import static dagger.internal.codegen.extension.DaggerStreams.instancesOf;
 import static dagger.internal.codegen.extension.DaggerStreams.presentValues;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
@@ -34,7 +33,6 @@ import static dagger.internal.codegen.xprocessing.XElements.asExecutable;
 import static dagger.internal.codegen.xprocessing.XElements.asTypeElement;
 import static dagger.internal.codegen.xprocessing.XElements.closestEnclosingTypeElement;
 import static dagger.internal.codegen.xprocessing.XElements.isExecutable;
-import static java.util.Collections.min;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.comparingInt;
 
@@ -44,14 +42,13 @@ import androidx.room.compiler.processing.XTypeElement;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Table;
 import dagger.internal.codegen.base.ElementFormatter;
 import dagger.internal.codegen.base.Formatter;
 import dagger.internal.codegen.binding.DependencyRequestFormatter;
+import dagger.internal.codegen.extension.ShortestPathTree;
 import dagger.internal.codegen.model.Binding;
 import dagger.internal.codegen.model.BindingGraph;
 import dagger.internal.codegen.model.BindingGraph.DependencyEdge;
@@ -61,7 +58,10 @@ import dagger.internal.codegen.model.BindingGraph.Node;
 import dagger.internal.codegen.model.ComponentPath;
 import dagger.internal.codegen.model.DaggerElement;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import javax.inject.Inject;
@@ -95,9 +95,11 @@ public final class DiagnosticMessageGenerator {
   /** A cached function from type to all of its supertypes in breadth-first order. */
   private final Function<XTypeElement, Iterable<XTypeElement>> supertypes;
 
-  /** The shortest path (value) from an entry point (column) to a binding (row). */
-  private final Table<MaybeBinding, DependencyEdge, ImmutableList<Node>> shortestPaths =
-      HashBasedTable.create();
+  /**
+   * Breadth-first search trees from the entry points in each component, keyed by the depth of the
+   * component from the root. Built lazily, since most graphs don't report any errors.
+   */
+  private final Map<Integer, EntryPointTree> entryPointTrees = new HashMap<>();
 
   private static <K, V> Function<K, V> memoize(Function<K, V> uncached) {
     // If Android Guava is on the processor path, then c.g.c.b.Function (which LoadingCache
@@ -264,28 +266,22 @@ public final class DiagnosticMessageGenerator {
     if (entryPoints.isEmpty()) {
       return ImmutableList.of();
     }
-    // Show the full dependency trace for one entry point.
-    DependencyEdge entryPointForTrace =
-        min(
-            entryPoints,
-            // prefer entry points in components closest to the root
-            rootComponentFirst()
-                // then prefer entry points with a short dependency path to the error
-                .thenComparing(shortestDependencyPathFirst(binding))
-                // then prefer entry points declared in the component to those declared in a
-                // supertype
-                .thenComparing(nearestComponentSupertypeFirst())
-                // finally prefer entry points declared first in their enclosing type
-                .thenComparing(requestElementDeclarationOrder()));
-
-    ImmutableList<Node> shortestBindingPath =
-        shortestPathFromEntryPoint(entryPointForTrace, binding);
+    // Show the full dependency trace for one entry point. Prefer entry points in components
+    // closest to the root, then entry points with a short dependency path to the error, then entry
+    // points declared in the component to those declared in a supertype, and finally entry points
+    // declared first in their enclosing type. The last three are encoded in the order of the
+    // sources of each EntryPointTree.
+    int componentDepth = entryPoints.stream().mapToInt(this::componentDepth).min().getAsInt();
+    EntryPointTree entryPointTree =
+        entryPointTrees.computeIfAbsent(componentDepth, this::entryPointTree);
+    ImmutableList<Node> shortestBindingPath = entryPointTree.tree.pathTo(binding);
     verify(
         !shortestBindingPath.isEmpty(),
-        "no dependency path from %s to %s in %s",
-        entryPointForTrace,
+        "no dependency path from an entry point to %s in %s",
         binding,
         graph);
+    DependencyEdge entryPointForTrace =
+        entryPointTree.entryPointsByTarget.get(shortestBindingPath.get(0));
 
     ImmutableList.Builder<DependencyEdge> dependencyTrace = ImmutableList.builder();
     dependencyTrace.add(entryPointForTrace);
@@ -315,29 +311,49 @@ public final class DiagnosticMessageGenerator {
    * shorter first.
    */
   private Comparator<DependencyEdge> rootComponentFirst() {
-    return comparingInt(entryPoint -> source(entryPoint).componentPath().components().size());
+    return comparingInt(this::componentDepth);
+  }
+
+  private int componentDepth(DependencyEdge entryPoint) {
+    return source(entryPoint).componentPath().components().size();
   }
 
   /**
-   * Returns a comparator that puts entry points whose shortest dependency path to {@code binding}
-   * is shortest first.
+   * Returns the breadth-first search tree from the entry points in components at {@code
+   * componentDepth}, with the sources in order of preference for a dependency trace.
    */
-  private Comparator<DependencyEdge> shortestDependencyPathFirst(MaybeBinding binding) {
-    return comparing(entryPoint -> shortestPathFromEntryPoint(entryPoint, binding).size());
+  private EntryPointTree entryPointTree(int componentDepth) {
+    ImmutableList<DependencyEdge> entryPoints =
+        graph.entryPointEdges().stream()
+            .filter(entryPoint -> componentDepth(entryPoint) == componentDepth)
+            .sorted(
+                nearestComponentSupertypeFirst().thenComparing(requestElementDeclarationOrder()))
+            .collect(toImmutableList());
+    // Several entry points may request the same binding; the first one is preferred.
+    Map<Node, DependencyEdge> entryPointsByTarget = new LinkedHashMap<>();
+    for (DependencyEdge entryPoint : entryPoints) {
+      entryPointsByTarget.putIfAbsent(
+          graph.network().incidentNodes(entryPoint).target(), entryPoint);
+    }
+    return new EntryPointTree(
+        ShortestPathTree.create(
+            node -> filter(graph.network().successors(node), MaybeBinding.class::isInstance),
+            entryPointsByTarget.keySet()),
+        entryPointsByTarget);
   }
 
-  private ImmutableList<Node> shortestPathFromEntryPoint(
-      DependencyEdge entryPoint, MaybeBinding binding) {
-    return shortestPaths
-        .row(binding)
-        .computeIfAbsent(
-            entryPoint,
-            ep ->
-                shortestPath(
-                    node ->
-                        filter(graph.network().successors(node), MaybeBinding.class::isInstance),
-                    graph.network().incidentNodes(ep).target(),
-                    binding));
+  /**
+   * A breadth-first search tree from the bindings requested by a set of entry points, and the
+   * entry point for each of those bindings.
+   */
+  private static final class EntryPointTree {
+    final ShortestPathTree<Node> tree;
+    final Map<Node, DependencyEdge> entryPointsByTarget;
+
+    EntryPointTree(ShortestPathTree<Node> tree, Map<Node, DependencyEdge> entryPointsByTarget) {
+      this.tree = tree;
+      this.entryPointsByTarget = entryPointsByTarget;
+    }
   }
 
   /**
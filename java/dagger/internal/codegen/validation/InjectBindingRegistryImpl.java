@@ -42,6 +42,7 @@ import androidx.room.compiler.processing.XMethodElement;
 import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.XType;
 import androidx.room.compiler.processing.XTypeElement;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.devtools.ksp.symbol.Origin;
@@ -49,8 +50,10 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.squareup.javapoet.ClassName;
 import dagger.Component;
 import dagger.Provides;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.SourceFileGenerationException;
 import dagger.internal.codegen.base.SourceFileGenerator;
+import dagger.internal.codegen.base.SourceFileGenerator.PendingSourceFile;
 import dagger.internal.codegen.binding.AssistedInjectionBinding;
 import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingFactory;
@@ -87,6 +90,7 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
   private final KeyFactory keyFactory;
   private final BindingFactory bindingFactory;
   private final CompilerOptions compilerOptions;
+  private final ProcessingStatistics processingStatistics;
 
   private final class BindingsCollection<B extends Binding> {
     private final ClassName factoryClass;
@@ -99,6 +103,7 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
     }
 
     void generateBindings(SourceFileGenerator<B> generator) throws SourceFileGenerationException {
+      ImmutableList.Builder<PendingSourceFile> pendingSourceFiles = ImmutableList.builder();
       for (B binding = bindingsRequiringGeneration.poll();
           binding != null;
           binding = bindingsRequiringGeneration.poll()) {
@@ -106,10 +111,19 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
         XType type = binding.key().type().xprocessing();
         if (!isDeclared(type)
                 || injectValidator.validateWhenGeneratingCode(type.getTypeElement()).isClean()) {
-          generator.generate(binding);
+          if (compilerOptions.parallelFactoryGeneration()) {
+            pendingSourceFiles.addAll(generator.pendingSourceFiles(binding));
+          } else {
+            generator.generate(binding);
+          }
         }
         materializedBindingKeys.add(binding.key());
       }
+      ImmutableList<PendingSourceFile> sourceFiles = pendingSourceFiles.build();
+      if (!sourceFiles.isEmpty()) {
+        processingStatistics.add(
+            "bytes generated for @Inject types", generator.writeInParallel(sourceFiles, messager));
+      }
       // Because Elements instantiated across processing rounds are not guaranteed to be equals() to
       // the logically same element, clear the cache after generating
       bindingsByKey.clear();
@@ -218,13 +232,15 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
       InjectValidator injectValidator,
       KeyFactory keyFactory,
       BindingFactory bindingFactory,
-      CompilerOptions compilerOptions) {
+      CompilerOptions compilerOptions,
+      ProcessingStatistics processingStatistics) {
     this.processingEnv = processingEnv;
     this.messager = messager;
     this.injectValidator = injectValidator;
     this.keyFactory = keyFactory;
     this.bindingFactory = bindingFactory;
     this.compilerOptions = compilerOptions;
+    this.processingStatistics = processingStatistics;
   }
 
   // TODO(dpb): make the SourceFileGenerators fields so they don't have to be passed in
@@ -61,6 +61,7 @@ import dagger.internal.codegen.binding.BindingGraphFactory;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.InjectionAnnotations;
 import dagger.internal.codegen.binding.MethodSignatureFormatter;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.model.BindingGraph;
 import dagger.internal.codegen.model.Scope;
@@ -115,6 +116,7 @@ public final class ModuleValidator {
   private final InjectionAnnotations injectionAnnotations;
   private final DaggerSuperficialValidation superficialValidation;
   private final XProcessingEnv processingEnv;
+  private final CompilerOptions compilerOptions;
   private final Map<XTypeElement, ValidationReport> cache = new HashMap<>();
   private final Set<XTypeElement> knownModules = new HashSet<>();
 
@@ -127,7 +129,8 @@ public final class ModuleValidator {
       BindingGraphValidator bindingGraphValidator,
       InjectionAnnotations injectionAnnotations,
       DaggerSuperficialValidation superficialValidation,
-      XProcessingEnv processingEnv) {
+      XProcessingEnv processingEnv,
+      CompilerOptions compilerOptions) {
     this.anyBindingMethodValidator = anyBindingMethodValidator;
     this.methodSignatureFormatter = methodSignatureFormatter;
     this.componentDescriptorFactory = componentDescriptorFactory;
@@ -136,6 +139,7 @@ public final class ModuleValidator {
     this.injectionAnnotations = injectionAnnotations;
     this.superficialValidation = superficialValidation;
     this.processingEnv = processingEnv;
+    this.compilerOptions = compilerOptions;
   }
 
   /**
@@ -206,6 +210,7 @@ public final class ModuleValidator {
     validateReferencedModules(module, moduleKind, visitedModules, builder);
     validateReferencedSubcomponents(module, moduleKind, builder);
     validateNoScopeAnnotationsOnModuleElement(module, moduleKind, builder);
+    validateQualifiersOnModuleElement(module, moduleKind, builder);
     validateSelfCycles(module, moduleKind, builder);
     module.getEnclosedTypeElements().stream()
         .filter(XTypeElement::isCompanionObject)
@@ -602,6 +607,26 @@ public final class ModuleValidator {
     }
   }
 
+  private void validateQualifiersOnModuleElement(
+      XTypeElement module, ModuleKind moduleKind, ValidationReport.Builder report) {
+    // With qualified producer module executors, a qualifier on a @ProducerModule selects the
+    // executor that runs its @Produces methods, so at most one is allowed. Otherwise, qualifiers on
+    // modules have no meaning and are ignored.
+    if (!compilerOptions.qualifiedProducerModuleExecutors()
+        || !moduleKind.equals(ModuleKind.PRODUCER_MODULE)) {
+      return;
+    }
+    ImmutableSet<XAnnotation> qualifiers = injectionAnnotations.getQualifiers(module);
+    if (qualifiers.size() > 1) {
+      for (XAnnotation qualifier : qualifiers) {
+        report.addError(
+            "@ProducerModules may not use more than one @Qualifier to select an executor",
+            module,
+            qualifier);
+      }
+    }
+  }
+
   private void validateSelfCycles(
       XTypeElement module, ModuleKind moduleKind, ValidationReport.Builder builder) {
     XAnnotation moduleAnnotation = moduleKind.getModuleAnnotation(module);
@@ -17,6 +17,7 @@
 package dagger.internal.codegen.validation;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static dagger.internal.codegen.javapoet.TypeNames.isCompletionStageType;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsMultibindings.ALLOWS_MULTIBINDINGS;
 import static dagger.internal.codegen.validation.BindingElementValidator.AllowsScoping.NO_SCOPING;
 import static dagger.internal.codegen.validation.BindingMethodValidator.Abstractness.MUST_BE_CONCRETE;
@@ -28,21 +29,25 @@ import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.XType;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.codegen.binding.InjectionAnnotations;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.javapoet.TypeNames;
 import dagger.internal.codegen.xprocessing.Nullability;
 import dagger.internal.codegen.xprocessing.XTypes;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 
 /** A validator for {@link dagger.producers.Produces} methods. */
 final class ProducesMethodValidator extends BindingMethodValidator {
+  private final CompilerOptions compilerOptions;
 
   @Inject
   ProducesMethodValidator(
       XProcessingEnv processingEnv,
       DependencyRequestValidator dependencyRequestValidator,
-      InjectionAnnotations injectionAnnotations) {
+      InjectionAnnotations injectionAnnotations,
+      CompilerOptions compilerOptions) {
     super(
         TypeNames.PRODUCES,
         TypeNames.PRODUCER_MODULE,
@@ -53,6 +58,7 @@ final class ProducesMethodValidator extends BindingMethodValidator {
         processingEnv,
         dependencyRequestValidator,
         injectionAnnotations);
+    this.compilerOptions = compilerOptions;
   }
 
   @Override
@@ -98,11 +104,13 @@ final class ProducesMethodValidator extends BindingMethodValidator {
     /**
      * {@inheritDoc}
      *
-     * <p>Allows {@code keyType} to be a {@link ListenableFuture} of an otherwise-valid key type.
+     * <p>Allows {@code keyType} to be a {@link ListenableFuture} of an otherwise-valid key type, or
+     * a {@link CompletionStage} of one with {@link
+     * CompilerOptions#completionStageProducesMethods()}.
      */
     @Override
     protected void checkKeyType(XType keyType) {
-      unwrapListenableFuture(keyType).ifPresent(super::checkKeyType);
+      unwrapFuture(keyType).ifPresent(super::checkKeyType);
     }
 
     /**
@@ -113,10 +121,10 @@ final class ProducesMethodValidator extends BindingMethodValidator {
      */
     @Override
     protected void checkSetValuesType() {
-      unwrapListenableFuture(method.getReturnType()).ifPresent(this::checkSetValuesType);
+      unwrapFuture(method.getReturnType()).ifPresent(this::checkSetValuesType);
     }
 
-    private Optional<XType> unwrapListenableFuture(XType type) {
+    private Optional<XType> unwrapFuture(XType type) {
       if (isTypeOf(type, TypeNames.LISTENABLE_FUTURE)) {
         if (XTypes.isRawParameterizedType(type)) {
           report.addError("@Produces methods cannot return a raw ListenableFuture");
@@ -125,6 +133,15 @@ final class ProducesMethodValidator extends BindingMethodValidator {
           return Optional.of(getOnlyElement(type.getTypeArguments()));
         }
       }
+      if (compilerOptions.completionStageProducesMethods() && isCompletionStageType(type)) {
+        if (XTypes.isRawParameterizedType(type)) {
+          report.addError(
+              "@Produces methods cannot return a raw " + type.getTypeElement().getName());
+          return Optional.empty();
+        } else {
+          return Optional.of(getOnlyElement(type.getTypeArguments()));
+        }
+      }
       return Optional.of(type);
     }
   }
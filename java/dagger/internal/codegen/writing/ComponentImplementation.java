@@ -71,6 +71,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import dagger.internal.Preconditions;
 import dagger.internal.codegen.base.ComponentCreatorKind;
+import dagger.internal.codegen.base.ProcessingStatistics;
 import dagger.internal.codegen.base.UniqueNameSet;
 import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingGraph;
@@ -274,6 +275,7 @@ public final class ComponentImplementation {
   private final XMessager messager;
   private final CompilerMode compilerMode;
   private final XProcessingEnv processingEnv;
+  private final ProcessingStatistics processingStatistics;
 
   @Inject
   ComponentImplementation(
@@ -287,7 +289,8 @@ public final class ComponentImplementation {
       ComponentNames componentNames,
       CompilerOptions compilerOptions,
       XMessager messager,
-      XProcessingEnv processingEnv) {
+      XProcessingEnv processingEnv,
+      ProcessingStatistics processingStatistics) {
     this.parent = parent;
     this.childComponentImplementationFactory = childComponentImplementationFactory;
     this.topLevelImplementationProvider = topLevelImplementationProvider;
@@ -298,6 +301,7 @@ public final class ComponentImplementation {
     this.componentNames = componentNames;
     this.compilerOptions = compilerOptions;
     this.processingEnv = processingEnv;
+    this.processingStatistics = processingStatistics;
 
     // The first group of keys belong to the component itself. We call this the componentShard.
     this.componentShard =
@@ -426,6 +430,22 @@ public final class ComponentImplementation {
     return compilerMode;
   }
 
+  /**
+   * Returns {@code true} if framework fields that are set to a delegate to break a dependency cycle
+   * should be reassigned to the final framework instance once it is created.
+   */
+  boolean rewireDelegateFactories() {
+    return compilerOptions.rewireDelegateFactories();
+  }
+
+  /**
+   * Records that a framework field in this component is initialized with a delegate, which is
+   * reported in the processing statistics.
+   */
+  void recordDelegateFrameworkField() {
+    processingStatistics.increment("delegate factories in " + name().canonicalName());
+  }
+
   /** Returns whether or not the implementation is nested within another class. */
   private boolean isNested() {
     return name().enclosingClassName() != null;
@@ -63,6 +63,7 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
     }
   }
 
+  private final ComponentImplementation componentImplementation;
   private final ShardImplementation shardImplementation;
   private final ContributionBinding binding;
   private final FrameworkInstanceCreationExpression frameworkInstanceCreationExpression;
@@ -74,7 +75,8 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
       ContributionBinding binding,
       FrameworkInstanceCreationExpression frameworkInstanceCreationExpression) {
     this.binding = checkNotNull(binding);
-    this.shardImplementation = checkNotNull(componentImplementation).shardImplementation(binding);
+    this.componentImplementation = checkNotNull(componentImplementation);
+    this.shardImplementation = componentImplementation.shardImplementation(binding);
     this.frameworkInstanceCreationExpression = checkNotNull(frameworkInstanceCreationExpression);
   }
 
@@ -98,7 +100,18 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
         CodeBlock fieldInitialization = frameworkInstanceCreationExpression.creationExpression();
         CodeBlock initCode = CodeBlock.of("this.$N = $L;", getOrCreateField(), fieldInitialization);
 
-        if (fieldInitializationState == InitializationState.DELEGATED) {
+        if (fieldInitializationState == InitializationState.DELEGATED
+            && componentImplementation.rewireDelegateFactories()) {
+          // The delegate is passed as the first argument before the field is reassigned to the
+          // final instance, so anything initialized later reads the field without the extra hop.
+          // Dependents that were created during the cycle still hold the delegate.
+          codeBuilder.add(
+              "$T.setDelegate($N, $N = $L);",
+              delegateType(),
+              fieldSpec,
+              fieldSpec,
+              fieldInitialization);
+        } else if (fieldInitializationState == InitializationState.DELEGATED) {
           codeBuilder.add(
               "$T.setDelegate($N, $L);", delegateType(), fieldSpec, fieldInitialization);
         } else {
@@ -121,6 +134,7 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
         // bindings use this.
 
         fieldInitializationState = InitializationState.DELEGATED;
+        componentImplementation.recordDelegateFrameworkField();
         shardImplementation.addInitialization(
             CodeBlock.of("this.$N = new $T<>();", fieldSpec, delegateType()));
         break;
@@ -18,6 +18,7 @@ package dagger.internal.codegen.writing;
 
 import static androidx.room.compiler.codegen.XTypeNameKt.toJavaPoet;
 import static androidx.room.compiler.processing.XElementKt.isMethodParameter;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static dagger.internal.codegen.binding.AssistedInjectionAnnotations.isAssistedParameter;
 import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForBinding;
 import static dagger.internal.codegen.binding.SourceFiles.generatedProxyMethodName;
@@ -28,16 +29,22 @@ import static dagger.internal.codegen.extension.DaggerStreams.toImmutableMap;
 import static dagger.internal.codegen.javapoet.CodeBlocks.makeParametersCodeBlock;
 import static dagger.internal.codegen.javapoet.CodeBlocks.toConcatenatedCodeBlock;
 import static dagger.internal.codegen.javapoet.CodeBlocks.toParametersCodeBlock;
+import static dagger.internal.codegen.langmodel.Accessibility.isElementAccessibleFrom;
 import static dagger.internal.codegen.langmodel.Accessibility.isRawTypeAccessible;
 import static dagger.internal.codegen.langmodel.Accessibility.isRawTypePubliclyAccessible;
 import static dagger.internal.codegen.xprocessing.XElements.asExecutable;
+import static dagger.internal.codegen.xprocessing.XElements.asField;
+import static dagger.internal.codegen.xprocessing.XElements.asMethod;
 import static dagger.internal.codegen.xprocessing.XElements.asMethodParameter;
 import static dagger.internal.codegen.xprocessing.XElements.getSimpleName;
 import static dagger.internal.codegen.xprocessing.XTypes.erasedTypeName;
 
 import androidx.room.compiler.processing.XExecutableElement;
 import androidx.room.compiler.processing.XExecutableParameterElement;
+import androidx.room.compiler.processing.XFieldElement;
+import androidx.room.compiler.processing.XMethodElement;
 import androidx.room.compiler.processing.XType;
+import androidx.room.compiler.processing.XTypeElement;
 import androidx.room.compiler.processing.XVariableElement;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -55,6 +62,7 @@ import dagger.internal.codegen.binding.InjectionBinding;
 import dagger.internal.codegen.binding.MembersInjectionBinding.InjectionSite;
 import dagger.internal.codegen.binding.ProvisionBinding;
 import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.javapoet.Expression;
 import dagger.internal.codegen.model.DependencyRequest;
 import dagger.internal.codegen.xprocessing.Nullability;
 import java.util.List;
@@ -206,6 +214,79 @@ final class InjectionMethods {
           .collect(toConcatenatedCodeBlock());
     }
 
+    /**
+     * Returns a statement that injects {@code injectionSite} by writing its field or calling its
+     * method directly, with the dependencies transformed using the {@code dependencyExpression}
+     * function, or empty if the site isn't accessible from {@code generatedTypeName} and must be
+     * injected through its injection method.
+     *
+     * @param instanceType the type of the {@code instance} parameter
+     */
+    static Optional<CodeBlock> invokeDirectly(
+        InjectionSite injectionSite,
+        ClassName generatedTypeName,
+        CodeBlock instanceCodeBlock,
+        XType instanceType,
+        Function<DependencyRequest, Expression> dependencyExpression) {
+      if (instanceType.getTypeName().equals(TypeName.OBJECT)
+          || !isElementAccessibleFrom(injectionSite.element(), generatedTypeName.packageName())) {
+        return Optional.empty();
+      }
+      XTypeElement enclosingType = injectionSite.enclosingTypeElement();
+      CodeBlock receiver = instanceCodeBlock;
+      if (!enclosingType.equals(instanceType.getTypeElement())) {
+        // Cast to the type that declares the member, in case a field of a subtype hides it, or a
+        // package-private method isn't inherited by a subtype in another package.
+        if (!enclosingType.getTypeParameters().isEmpty()) {
+          return Optional.empty();
+        }
+        receiver = CodeBlock.of("(($T) $L)", enclosingType.getClassName(), instanceCodeBlock);
+      }
+      ImmutableList<XType> parameterTypes;
+      switch (injectionSite.kind()) {
+        case FIELD:
+          XFieldElement field = asField(injectionSite.element());
+          parameterTypes = ImmutableList.of(field.asMemberOf(instanceType));
+          break;
+        case METHOD:
+          parameterTypes =
+              ImmutableList.copyOf(
+                  asMethod(injectionSite.element()).asMemberOf(instanceType).getParameterTypes());
+          break;
+        default:
+          throw new AssertionError(injectionSite);
+      }
+
+      ImmutableList<DependencyRequest> dependencies = injectionSite.dependencies().asList();
+      ImmutableList.Builder<CodeBlock> arguments = ImmutableList.builder();
+      for (int i = 0; i < dependencies.size(); i++) {
+        Expression argument = dependencyExpression.apply(dependencies.get(i));
+        if (!argument.type().isAssignableTo(parameterTypes.get(i))) {
+          return Optional.empty();
+        }
+        arguments.add(argument.codeBlock());
+      }
+
+      switch (injectionSite.kind()) {
+        case FIELD:
+          return Optional.of(
+              CodeBlock.of(
+                  "$L.$L = $L;",
+                  receiver,
+                  getSimpleName(injectionSite.element()),
+                  getOnlyElement(arguments.build())));
+        case METHOD:
+          XMethodElement method = asMethod(injectionSite.element());
+          return Optional.of(
+              CodeBlock.of(
+                  "$L.$L($L);",
+                  receiver,
+                  method.getJvmName(),
+                  makeParametersCodeBlock(arguments.build())));
+      }
+      throw new AssertionError(injectionSite);
+    }
+
     /**
      * Invokes the injection method for {@code injectionSite}, with the dependencies transformed
      * using the {@code dependencyUsage} function.
@@ -18,6 +18,7 @@ package dagger.internal.codegen.writing;
 
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static dagger.internal.codegen.base.Util.reentrantComputeIfAbsent;
+import static dagger.internal.codegen.javapoet.CodeBlocks.toConcatenatedCodeBlock;
 import static dagger.internal.codegen.langmodel.Accessibility.isTypeAccessibleFrom;
 import static dagger.internal.codegen.writing.ComponentImplementation.MethodSpecKind.MEMBERS_INJECTION_METHOD;
 import static dagger.internal.codegen.xprocessing.XElements.getSimpleName;
@@ -38,7 +39,9 @@ import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.InjectionBinding;
 import dagger.internal.codegen.binding.MembersInjectionBinding;
 import dagger.internal.codegen.binding.MembersInjectionBinding.InjectionSite;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.javapoet.Expression;
+import dagger.internal.codegen.model.DependencyRequest;
 import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
 import dagger.internal.codegen.writing.InjectionMethods.InjectionSiteMethod;
@@ -54,17 +57,20 @@ final class MembersInjectionMethods {
   private final ComponentRequestRepresentations bindingExpressions;
   private final BindingGraph graph;
   private final XProcessingEnv processingEnv;
+  private final CompilerOptions compilerOptions;
 
   @Inject
   MembersInjectionMethods(
       ComponentImplementation componentImplementation,
       ComponentRequestRepresentations bindingExpressions,
       BindingGraph graph,
-      XProcessingEnv processingEnv) {
+      XProcessingEnv processingEnv,
+      CompilerOptions compilerOptions) {
     this.componentImplementation = componentImplementation;
     this.bindingExpressions = bindingExpressions;
     this.graph = graph;
     this.processingEnv = processingEnv;
+    this.compilerOptions = compilerOptions;
   }
 
   /**
@@ -127,15 +133,19 @@ final class MembersInjectionMethods {
     }
     CodeBlock instance = CodeBlock.of("$N", parameter);
     methodBuilder.addCode(
-        InjectionSiteMethod.invokeAll(
-            injectionSites(binding),
-            shardImplementation.name(),
-            instance,
-            membersInjectedType,
-            request ->
-                bindingExpressions
-                    .getDependencyArgumentExpression(request, shardImplementation.name())
-                    .codeBlock()));
+        compilerOptions.flattenedMembersInjection()
+            ? injectionSites(binding).stream()
+                .map(
+                    injectionSite ->
+                        invokeInjectionSite(
+                            injectionSite, shardImplementation, instance, membersInjectedType))
+                .collect(toConcatenatedCodeBlock())
+            : InjectionSiteMethod.invokeAll(
+                injectionSites(binding),
+                shardImplementation.name(),
+                instance,
+                membersInjectedType,
+                request -> dependencyArgument(request, shardImplementation).codeBlock()));
     methodBuilder.addStatement("return $L", instance);
 
     MethodSpec method = methodBuilder.build();
@@ -143,6 +153,34 @@ final class MembersInjectionMethods {
     return Expression.create(membersInjectedType, CodeBlock.of("$N", method));
   }
 
+  // Writes the field or calls the method of the injection site directly if it's accessible, so
+  // that the whole class hierarchy is injected without calling into each MembersInjector.
+  private CodeBlock invokeInjectionSite(
+      InjectionSite injectionSite,
+      ShardImplementation shardImplementation,
+      CodeBlock instance,
+      XType membersInjectedType) {
+    return InjectionSiteMethod.invokeDirectly(
+            injectionSite,
+            shardImplementation.name(),
+            instance,
+            membersInjectedType,
+            request -> dependencyArgument(request, shardImplementation))
+        .orElseGet(
+            () ->
+                InjectionSiteMethod.invokeAll(
+                    ImmutableSet.of(injectionSite),
+                    shardImplementation.name(),
+                    instance,
+                    membersInjectedType,
+                    request -> dependencyArgument(request, shardImplementation).codeBlock()));
+  }
+
+  private Expression dependencyArgument(
+      DependencyRequest request, ShardImplementation shardImplementation) {
+    return bindingExpressions.getDependencyArgumentExpression(request, shardImplementation.name());
+  }
+
   private static ImmutableSet<InjectionSite> injectionSites(Binding binding) {
     switch (binding.kind()) {
       case INJECTION:
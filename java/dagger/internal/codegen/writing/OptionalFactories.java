@@ -38,6 +38,7 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.VOLATILE;
 
 import com.google.auto.value.AutoValue;
 import com.google.common.base.Function;
@@ -87,7 +88,8 @@ final class OptionalFactories {
         new TreeMap<>(
             Comparator.comparing(PresentFactorySpec::valueKind)
                 .thenComparing(PresentFactorySpec::frameworkType)
-                .thenComparing(PresentFactorySpec::optionalKind));
+                .thenComparing(PresentFactorySpec::optionalKind)
+                .thenComparing(PresentFactorySpec::memoized));
 
     /**
      * The static methods that return a {@code Provider<Optional<T>>} that always returns an absent
@@ -200,6 +202,12 @@ final class OptionalFactories {
     /** The kind of request satisfied by the value of the {@code Optional}. */
     abstract RequestKind valueKind();
 
+    /**
+     * Whether the factory returns the same {@code Optional} from every call. Only valid for
+     * providers whose delegate is scoped, since then every call would return an equal value.
+     */
+    abstract boolean memoized();
+
     /** The type variable for the factory class. */
     TypeVariableName typeVariable() {
       return TypeVariableName.get("T");
@@ -265,18 +273,20 @@ final class OptionalFactories {
 
     /** The name of the factory class. */
     String factoryClassName() {
-      return new StringBuilder("Present")
+      return new StringBuilder(memoized() ? "MemoizedPresent" : "Present")
           .append(UPPER_UNDERSCORE.to(UPPER_CAMEL, optionalKind().name()))
           .append(UPPER_UNDERSCORE.to(UPPER_CAMEL, valueKind().toString()))
           .append(toJavaPoet(frameworkType().frameworkClassName()).simpleName())
           .toString();
     }
 
-    private static PresentFactorySpec of(OptionalBinding binding) {
+    private static PresentFactorySpec of(OptionalBinding binding, boolean delegateIsScoped) {
+      FrameworkType frameworkType = FrameworkType.forBindingType(binding.bindingType());
       return new AutoValue_OptionalFactories_PresentFactorySpec(
-          FrameworkType.forBindingType(binding.bindingType()),
+          frameworkType,
           OptionalType.from(binding.key()).kind(),
-          getOnlyElement(binding.dependencies()).kind());
+          getOnlyElement(binding.dependencies()).kind(),
+          delegateIsScoped && frameworkType.equals(FrameworkType.PROVIDER));
     }
   }
 
@@ -300,14 +310,19 @@ final class OptionalFactories {
    *       {@code Producer<Optional<Produced<T>>>}.
    * </ul>
    *
+   * <p>If {@code delegateIsScoped} and the class implements {@code Provider}, the class returns the
+   * same {@code Optional} from every call instead of allocating a new one.
+   *
    * @param delegateFactory an expression for a {@code Provider} or {@code Producer} of the
    *     underlying type
+   * @param delegateIsScoped whether the underlying binding is scoped
    */
-  CodeBlock presentOptionalFactory(OptionalBinding binding, CodeBlock delegateFactory) {
+  CodeBlock presentOptionalFactory(
+      OptionalBinding binding, CodeBlock delegateFactory, boolean delegateIsScoped) {
     return CodeBlock.of(
         "$N.of($L)",
         perGeneratedFileCache.presentFactoryClasses.computeIfAbsent(
-            PresentFactorySpec.of(binding),
+            PresentFactorySpec.of(binding, delegateIsScoped),
             spec -> {
               TypeSpec type = presentOptionalFactoryClass(spec);
               topLevelImplementation.addType(PRESENT_FACTORY, type);
@@ -328,12 +343,21 @@ final class OptionalFactories {
                 "A {@code $T} that uses a delegate {@code $T}.",
                 spec.factoryType(),
                 delegateField.type);
+    if (spec.memoized()) {
+      factoryClassBuilder.addJavadoc(
+          " The delegate is scoped, so the same {@code Optional} is returned from every call.");
+    }
 
     spec.superclass().ifPresent(factoryClassBuilder::superclass);
     spec.superinterface().ifPresent(factoryClassBuilder::addSuperinterface);
 
+    factoryClassBuilder.addField(delegateField);
+    if (spec.memoized()) {
+      factoryClassBuilder.addField(
+          FieldSpec.builder(spec.optionalType(), "optional", PRIVATE, VOLATILE).build());
+    }
+
     return factoryClassBuilder
-        .addField(delegateField)
         .addMethod(
             constructorBuilder()
                 .addModifiers(PRIVATE)
@@ -367,6 +391,24 @@ final class OptionalFactories {
 
     switch (spec.frameworkType()) {
       case PROVIDER:
+        if (spec.memoized()) {
+          // Racing threads may each create an Optional, but they are equal since the delegate is
+          // scoped, so any one of them can be cached.
+          return getMethodBuilder
+              .returns(spec.optionalType())
+              .addStatement("$T optional = this.optional", spec.optionalType())
+              .beginControlFlow("if (optional == null)")
+              .addStatement(
+                  "optional = $L",
+                  spec.optionalKind()
+                      .presentExpression(
+                          FrameworkType.PROVIDER.to(
+                              spec.valueKind(), CodeBlock.of("$N", delegateField))))
+              .addStatement("this.optional = optional")
+              .endControlFlow()
+              .addStatement("return optional")
+              .build();
+        }
         return getMethodBuilder
             .returns(spec.optionalType())
             .addCode(
@@ -24,6 +24,7 @@ import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
 import dagger.internal.codegen.binding.OptionalBinding;
+import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
 
 /**
@@ -51,16 +52,18 @@ final class OptionalFactoryInstanceCreationExpression
 
   @Override
   public CodeBlock creationExpression() {
-    return binding.dependencies().isEmpty()
-        ? optionalFactories.absentOptionalProvider(binding)
-        : optionalFactories.presentOptionalFactory(
-            binding,
-            componentRequestRepresentations
-                .getDependencyExpression(
-                    bindingRequest(
-                        getOnlyElement(binding.dependencies()).key(), binding.frameworkType()),
-                    componentImplementation.shardImplementation(binding).name())
-                .codeBlock());
+    if (binding.dependencies().isEmpty()) {
+      return optionalFactories.absentOptionalProvider(binding);
+    }
+    Key delegateKey = getOnlyElement(binding.dependencies()).key();
+    return optionalFactories.presentOptionalFactory(
+        binding,
+        componentRequestRepresentations
+            .getDependencyExpression(
+                bindingRequest(delegateKey, binding.frameworkType()),
+                componentImplementation.shardImplementation(binding).name())
+            .codeBlock(),
+        componentImplementation.graph().contributionBinding(delegateKey).scope().isPresent());
   }
 
   @AssistedFactory
@@ -36,6 +36,7 @@ import static dagger.internal.codegen.javapoet.TypeNames.FUTURES;
 import static dagger.internal.codegen.javapoet.TypeNames.PRODUCERS;
 import static dagger.internal.codegen.javapoet.TypeNames.PRODUCER_TOKEN;
 import static dagger.internal.codegen.javapoet.TypeNames.VOID_CLASS;
+import static dagger.internal.codegen.javapoet.TypeNames.isCompletionStageType;
 import static dagger.internal.codegen.javapoet.TypeNames.isFutureType;
 import static dagger.internal.codegen.javapoet.TypeNames.listOf;
 import static dagger.internal.codegen.javapoet.TypeNames.listenableFutureOf;
@@ -358,7 +359,9 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
             getSimpleName(binding.bindingElement().get()),
             makeParametersCodeBlock(parameterCodeBlocks.build()));
 
-    switch (ProductionKind.fromProducesMethod(asMethod(binding.bindingElement().get()))) {
+    switch (
+        ProductionKind.fromProducesMethod(
+            asMethod(binding.bindingElement().get()), compilerOptions)) {
       case IMMEDIATE:
         methodBuilder.addStatement(
             "return $T.<$T>immediateFuture($L)", FUTURES, contributedTypeName, moduleCodeBlock);
@@ -366,6 +369,10 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
       case FUTURE:
         methodBuilder.addStatement("return $L", moduleCodeBlock);
         break;
+      case COMPLETION_STAGE:
+        methodBuilder.addStatement(
+            "return $T.fromCompletionStage($L)", PRODUCERS, moduleCodeBlock);
+        break;
       case SET_OF_FUTURE:
         methodBuilder.addStatement("return $T.allAsSet($L)", PRODUCERS, moduleCodeBlock);
         break;
@@ -505,13 +512,19 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     IMMEDIATE,
     /** A {@code ListenableFuture<T>}. */
     FUTURE,
+    /** A {@code CompletionStage<T>} or {@code CompletableFuture<T>}. */
+    COMPLETION_STAGE,
     /** A {@code Set<ListenableFuture<T>>}. */
     SET_OF_FUTURE;
 
     /** Returns the kind of object a {@code @Produces}-annotated method returns. */
-    static ProductionKind fromProducesMethod(XMethodElement producesMethod) {
+    static ProductionKind fromProducesMethod(
+        XMethodElement producesMethod, CompilerOptions compilerOptions) {
       if (isFutureType(producesMethod.getReturnType())) {
         return FUTURE;
+      } else if (compilerOptions.completionStageProducesMethods()
+          && isCompletionStageType(producesMethod.getReturnType())) {
+        return COMPLETION_STAGE;
       } else if (ContributionType.fromBindingElement(producesMethod)
               .equals(ContributionType.SET_VALUES)
           && isFutureType(SetType.from(producesMethod.getReturnType()).elementType())) {
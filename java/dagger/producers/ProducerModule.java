@@ -28,6 +28,35 @@ import java.lang.annotation.Target;
 /**
  * Annotates a class that contributes {@link Produces} bindings to the production component.
  *
+ * <p>By default, the {@link Produces} methods of a producer module run on the executor bound with
+ * {@link Production @Production}. To isolate a group of producers on a separate executor (for
+ * example, to keep a slow backend from exhausting the threads shared by the rest of the graph),
+ * compile with {@code -Adagger.qualifiedProducerModuleExecutors=enabled} and annotate the module
+ * with a {@linkplain javax.inject.Qualifier qualifier}. Its {@code @Produces}
+ * methods will then run on the {@link java.util.concurrent.Executor} bound with that qualifier,
+ * which must be available in the component. Like the {@code @Production} executor, it must only be
+ * created once per component, so its binding must be scoped, e.g. with {@link ProductionScope
+ * @ProductionScope}, or be bound with {@link dagger.BindsInstance @BindsInstance}:
+ *
+ * <pre><code>
+ *   {@literal @}ProducerModule
+ *   {@literal @}SlowBackend
+ *   final class SlowBackendModule {
+ *     {@literal @}Produces static Response fetch(Request request) { ... }
+ *   }
+ *
+ *   {@literal @}Module
+ *   final class ExecutorModule {
+ *     {@literal @}Provides {@literal @}Production
+ *     static Executor executor() { ... }
+ *
+ *     {@literal @}Provides {@literal @}ProductionScope {@literal @}SlowBackend
+ *     static Executor slowBackendExecutor() { ... }
+ *   }
+ * </code></pre>
+ *
+ * <p>A producer module may have at most one qualifier.
+ *
  * @since 2.0
  */
 @Documented
@@ -31,6 +31,12 @@ import java.lang.annotation.Target;
  * to the value that the future produces; otherwise, the return type is bound to the returned value.
  * The production component will pass dependencies to the method as parameters.
  *
+ * <p>With {@code -Adagger.completionStageProducesMethods=enabled}, a method that returns a {@link
+ * java.util.concurrent.CompletionStage} or {@link java.util.concurrent.CompletableFuture} also
+ * binds the parameter type of the stage. Without it, such a method binds the stage itself, so
+ * enabling the option changes the keys of existing methods: requests for the stage type must be
+ * changed to request the value type instead.
+ *
  * @since 2.0
  */
 @Documented
@@ -25,6 +25,7 @@ import static dagger.internal.Providers.asDaggerProvider;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -34,6 +35,12 @@ import dagger.producers.Producer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 /**
  * Utility methods for use in generated producer code.
@@ -121,6 +128,62 @@ public final class Producers {
         directExecutor());
   }
 
+  /**
+   * Returns a {@link ListenableFuture} view of the {@link CompletionStage} returned by a {@code
+   * @Produces} method.
+   *
+   * <p>No adapter is allocated if the stage is already a {@link ListenableFuture}, or if it is a
+   * {@link CompletableFuture} that has already completed successfully. Otherwise the returned
+   * future is completed directly by the stage, without an extra executor hop. Cancelling the
+   * returned future cancels the stage if it is a {@link Future}.
+   */
+  @SuppressWarnings("unchecked") // a stage that is a ListenableFuture must be one of type T
+  public static <T> ListenableFuture<T> fromCompletionStage(CompletionStage<T> stage) {
+    checkNotNull(stage);
+    if (stage instanceof ListenableFuture) {
+      return (ListenableFuture<T>) stage;
+    }
+    if (stage instanceof CompletableFuture) {
+      CompletableFuture<T> completableFuture = (CompletableFuture<T>) stage;
+      if (completableFuture.isDone() && !completableFuture.isCompletedExceptionally()) {
+        return Futures.immediateFuture(completableFuture.join());
+      }
+    }
+    CompletionStageFuture<T> future = new CompletionStageFuture<>(stage);
+    stage.whenComplete(future);
+    return future;
+  }
+
+  /** A {@link ListenableFuture} that is completed by a {@link CompletionStage}. */
+  private static final class CompletionStageFuture<T> extends AbstractFuture<T>
+      implements BiConsumer<T, Throwable> {
+    private final CompletionStage<T> stage;
+
+    CompletionStageFuture(CompletionStage<T> stage) {
+      this.stage = stage;
+    }
+
+    @Override
+    public void accept(T value, Throwable throwable) {
+      if (throwable == null) {
+        set(value);
+      } else if (throwable instanceof CancellationException) {
+        cancel(false);
+      } else if (throwable instanceof CompletionException && throwable.getCause() != null) {
+        setException(throwable.getCause());
+      } else {
+        setException(throwable);
+      }
+    }
+
+    @Override
+    protected void afterDone() {
+      if (isCancelled() && stage instanceof Future) {
+        ((Future<?>) stage).cancel(wasInterrupted());
+      }
+    }
+  }
+
   /**
    * Returns a producer that immediately executes the binding logic for the given provider every
    * time it is called.
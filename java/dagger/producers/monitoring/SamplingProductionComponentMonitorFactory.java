@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dagger.internal.Beta;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A monitor factory that only monitors one out of every {@code sampleRate} components that it is
+ * asked to create monitors for, and returns {@link ProductionComponentMonitor#noOp()} for the rest.
+ *
+ * <p>This allows monitoring to stay enabled in production without paying the per-producer cost of
+ * monitoring for every component. Components that aren't sampled only see the shared no-op
+ * monitors, so they don't allocate any per-producer monitors.
+ *
+ * <p>For example: <pre><code>
+ *   {@literal @Module}
+ *   final class MyMonitorModule {
+ *     {@literal @Provides @IntoSet} ProductionComponentMonitor.Factory provideMonitorFactory(
+ *         MyProductionComponentMonitor.Factory monitorFactory) {
+ *       return new SamplingProductionComponentMonitorFactory(monitorFactory, 100);
+ *     }
+ *   }
+ * </code></pre>
+ */
+@Beta
+public final class SamplingProductionComponentMonitorFactory
+    extends ProductionComponentMonitor.Factory {
+  private final ProductionComponentMonitor.Factory delegate;
+  private final long sampleRate;
+  private final AtomicLong componentCount = new AtomicLong();
+
+  /**
+   * Creates a factory that delegates to {@code delegate} for one out of every {@code sampleRate}
+   * components, starting with the first.
+   *
+   * @throws IllegalArgumentException if {@code sampleRate} is less than 1
+   */
+  public SamplingProductionComponentMonitorFactory(
+      ProductionComponentMonitor.Factory delegate, long sampleRate) {
+    checkArgument(sampleRate > 0, "sampleRate must be positive: %s", sampleRate);
+    this.delegate = checkNotNull(delegate);
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public ProductionComponentMonitor create(Object component) {
+    return componentCount.getAndIncrement() % sampleRate == 0
+        ? delegate.create(component)
+        : ProductionComponentMonitor.noOp();
+  }
+}
@@ -86,7 +86,7 @@ public final class Monitors {
     public ProducerMonitor producerMonitorFor(ProducerToken token) {
       try {
         ProducerMonitor monitor = delegate.producerMonitorFor(token);
-        return monitor == null ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
+        return isNoOp(monitor) ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
       } catch (RuntimeException e) {
         logProducerMonitorForException(e, delegate, token);
         return ProducerMonitor.noOp();
@@ -104,7 +104,7 @@ public final class Monitors {
       public ProductionComponentMonitor create(Object component) {
         try {
           ProductionComponentMonitor monitor = delegate.create(component);
-          return monitor == null
+          return isNoOp(monitor)
               ? ProductionComponentMonitor.noOp()
               : new NonThrowingProductionComponentMonitor(monitor);
         } catch (RuntimeException e) {
@@ -199,7 +199,7 @@ public final class Monitors {
       for (ProductionComponentMonitor delegate : delegates) {
         try {
           ProducerMonitor monitor = delegate.producerMonitorFor(token);
-          if (monitor != null) {
+          if (!isNoOp(monitor)) {
             monitorsBuilder.add(monitor);
           }
         } catch (RuntimeException e) {
@@ -229,7 +229,7 @@ public final class Monitors {
         for (ProductionComponentMonitor.Factory delegate : delegates) {
           try {
             ProductionComponentMonitor monitor = delegate.create(component);
-            if (monitor != null) {
+            if (!isNoOp(monitor)) {
               monitorsBuilder.add(monitor);
             }
           } catch (RuntimeException e) {
@@ -340,6 +340,21 @@ public final class Monitors {
             }
           };
 
+  /**
+   * Returns true if the given component monitor is null or the no-op monitor. Such monitors are
+   * never wrapped or delegated to, so that components that aren't monitored (e.g. because they
+   * weren't {@linkplain dagger.producers.monitoring.SamplingProductionComponentMonitorFactory
+   * sampled}) don't allocate a wrapper monitor for every producer.
+   */
+  private static boolean isNoOp(ProductionComponentMonitor monitor) {
+    return monitor == null || monitor == ProductionComponentMonitor.noOp();
+  }
+
+  /** Returns true if the given producer monitor is null or the no-op monitor. */
+  private static boolean isNoOp(ProducerMonitor monitor) {
+    return monitor == null || monitor == ProducerMonitor.noOp();
+  }
+
   private static void logCreateException(
       RuntimeException e, ProductionComponentMonitor.Factory factory, Object component) {
     logger.log(
@@ -35,6 +35,7 @@ import androidx.room.compiler.processing.util.compiler.TestCompilationResult;
 import androidx.room.compiler.processing.util.compiler.TestKotlinCompilerKt;
 import com.google.auto.value.AutoValue;
 import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -232,6 +233,9 @@ public final class CompilerTests {
     }
 
     public void compile(Consumer<CompilationResultSubject> onCompilationResult) {
+      // Unlike compiler(), this doesn't need the compiler deps jar: runProcessorTest compiles
+      // against the classpath of the test itself, and creates a new javac and KSP invocation, with
+      // its own output directories, for every call.
       ProcessorTestExtKt.runProcessorTest(
           sources().asList(),
           /* classpath= */ ImmutableList.of(),
@@ -284,8 +288,20 @@ public final class CompilerTests {
     }
   }
 
+  // Finding the jar walks the whole runfiles tree, so only do it once per JVM rather than once per
+  // compilation.
+  private static final Supplier<File> COMPILER_DEPS_JAR =
+      Suppliers.memoize(CompilerTests::findCompilerDepsJar);
+
+  private static final Supplier<Compiler> COMPILER =
+      Suppliers.memoize(() -> javac().withClasspath(ImmutableList.of(compilerDepsJar())));
+
   /** Returns the {@plainlink File jar file} containing the compiler deps. */
   public static File compilerDepsJar() {
+    return COMPILER_DEPS_JAR.get();
+  }
+
+  private static File findCompilerDepsJar() {
     try {
       return stream(Files.fileTraverser().breadthFirst(getRunfilesDir()))
           .filter(file -> file.getName().endsWith("_compiler_deps_deploy.jar"))
@@ -298,7 +314,8 @@ public final class CompilerTests {
 
   /** Returns a {@link Compiler} with the compiler deps jar added to the class path. */
   public static Compiler compiler() {
-    return javac().withClasspath(ImmutableList.of(compilerDepsJar()));
+    // Compiler is immutable, so the same instance can be shared by all tests.
+    return COMPILER.get();
   }
 
   public static void compileWithKapt(
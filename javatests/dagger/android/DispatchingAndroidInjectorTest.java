@@ -70,6 +70,21 @@ public final class DispatchingAndroidInjectorTest {
     assertThat(dispatchingAndroidInjector.maybeInject(barActivity)).isTrue();
   }
 
+  @Test
+  public void maybeInject_sameClassTwice() {
+    DispatchingAndroidInjector<Activity> dispatchingAndroidInjector =
+        newDispatchingAndroidInjector(
+            ImmutableMap.of(),
+            ImmutableMap.of(FooActivity.class.getName(), FooInjector.Factory::new));
+
+    assertThat(dispatchingAndroidInjector.maybeInject(Robolectric.setupActivity(FooActivity.class)))
+        .isTrue();
+    assertThat(dispatchingAndroidInjector.maybeInject(Robolectric.setupActivity(FooActivity.class)))
+        .isTrue();
+    assertThat(dispatchingAndroidInjector.maybeInject(Robolectric.setupActivity(BarActivity.class)))
+        .isFalse();
+  }
+
   @Test
   public void maybeInject_returnsFalse_ifNoMatchingInjectorExists() {
     DispatchingAndroidInjector<Activity> dispatchingAndroidInjector =
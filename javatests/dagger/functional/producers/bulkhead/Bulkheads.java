@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.bulkhead;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.Executor;
+import javax.inject.Qualifier;
+
+final class Bulkheads {
+  @Qualifier
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Isolated {}
+
+  @ProducerModule
+  static final class DefaultModule {
+    @Produces
+    static String string() {
+      return "default";
+    }
+  }
+
+  @ProducerModule
+  @Isolated
+  static final class IsolatedModule {
+    @Produces
+    static Integer integer() {
+      return 42;
+    }
+
+    @Produces
+    static Long longValue(String string, Integer integer) {
+      return (long) (string.length() + integer);
+    }
+  }
+
+  @ProductionComponent(modules = {DefaultModule.class, IsolatedModule.class})
+  interface TestComponent {
+    ListenableFuture<String> string();
+
+    ListenableFuture<Integer> integer();
+
+    ListenableFuture<Long> longValue();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      @BindsInstance
+      Builder isolatedExecutor(@Isolated Executor executor);
+
+      TestComponent build();
+    }
+  }
+
+  private Bulkheads() {}
+}
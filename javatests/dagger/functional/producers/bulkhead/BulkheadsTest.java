@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.bulkhead;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+
+import dagger.functional.producers.bulkhead.Bulkheads.TestComponent;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class BulkheadsTest {
+  private static final class CountingExecutor implements Executor {
+    final AtomicInteger executions = new AtomicInteger();
+
+    @Override
+    public void execute(Runnable runnable) {
+      executions.incrementAndGet();
+      runnable.run();
+    }
+  }
+
+  @Test
+  public void qualifiedModuleRunsOnQualifiedExecutor() throws Exception {
+    CountingExecutor defaultExecutor = new CountingExecutor();
+    CountingExecutor isolatedExecutor = new CountingExecutor();
+    TestComponent component =
+        DaggerBulkheads_TestComponent.builder()
+            .executor(defaultExecutor)
+            .isolatedExecutor(isolatedExecutor)
+            .build();
+
+    assertThat(component.longValue().get()).isEqualTo(49L);
+    assertThat(defaultExecutor.executions.get()).isEqualTo(1);
+    assertThat(isolatedExecutor.executions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void rejectingQualifiedExecutorDoesNotAffectOtherProducers() throws Exception {
+    Executor rejecting =
+        runnable -> {
+          throw new RejectedExecutionException();
+        };
+    TestComponent component =
+        DaggerBulkheads_TestComponent.builder()
+            .executor(directExecutor())
+            .isolatedExecutor(rejecting)
+            .build();
+
+    assertThat(component.string().get()).isEqualTo("default");
+    ExecutionException e = assertThrows(ExecutionException.class, () -> component.integer().get());
+    assertThat(e).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+  }
+}
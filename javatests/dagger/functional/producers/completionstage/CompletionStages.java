@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.completionstage;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.multibindings.ElementsIntoSet;
+import dagger.multibindings.IntoSet;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+final class CompletionStages {
+  interface Dependency {
+    CompletableFuture<String> pendingString();
+  }
+
+  @ProducerModule
+  static final class Module {
+    @Produces
+    static CompletionStage<Integer> intStage() {
+      return CompletableFuture.completedFuture(5);
+    }
+
+    @Produces
+    static CompletableFuture<Long> longFuture(int i, Dependency dependency) {
+      return dependency.pendingString().thenApply(s -> (long) (i + s.length()));
+    }
+
+    @Produces
+    @IntoSet
+    static CompletionStage<Double> doubleStage(int i) {
+      return CompletableFuture.completedFuture((double) i);
+    }
+
+    @Produces
+    @ElementsIntoSet
+    static CompletionStage<Set<Double>> setOfDoubleStage(long l) {
+      return CompletableFuture.completedFuture(ImmutableSet.of((double) l));
+    }
+  }
+
+  @ProductionComponent(modules = Module.class, dependencies = Dependency.class)
+  interface Component {
+    ListenableFuture<Long> longValue();
+
+    ListenableFuture<Set<Double>> setOfDouble();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder dependency(Dependency dependency);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      Component build();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.completionstage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+
+import dagger.functional.producers.completionstage.CompletionStages.Component;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class CompletionStagesTest {
+
+  @Test
+  public void testCompletionStages() throws Exception {
+    CompletableFuture<String> pendingString = new CompletableFuture<>();
+    Component component =
+        DaggerCompletionStages_Component.builder()
+            .executor(directExecutor())
+            .dependency(() -> pendingString)
+            .build();
+    assertThat(component.longValue().isDone()).isFalse();
+    assertThat(component.setOfDouble().isDone()).isFalse();
+
+    pendingString.complete("hello");
+    assertThat(component.longValue().isDone()).isTrue();
+    assertThat(component.longValue().get()).isEqualTo(10L);
+    assertThat(component.setOfDouble().isDone()).isTrue();
+    assertThat(component.setOfDouble().get()).containsExactly(5.0, 10.0);
+  }
+
+  @Test
+  public void testCompletionStages_failure() {
+    CompletableFuture<String> pendingString = new CompletableFuture<>();
+    Component component =
+        DaggerCompletionStages_Component.builder()
+            .executor(directExecutor())
+            .dependency(() -> pendingString)
+            .build();
+    IllegalStateException cause = new IllegalStateException("monkey");
+    pendingString.completeExceptionally(cause);
+    assertThat(component.longValue().isDone()).isTrue();
+    ExecutionException e = assertThrows(ExecutionException.class, component.longValue()::get);
+    assertThat(e).hasCauseThat().isSameInstanceAs(cause);
+  }
+}
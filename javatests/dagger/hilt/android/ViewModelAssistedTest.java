@@ -84,6 +84,18 @@ public class ViewModelAssistedTest {
     }
   }
 
+  @Test
+  public void testAssistedAndInjectedViewModels() {
+    try (ActivityScenario<TestAssistedAndInjectedViewModelsActivity> scenario =
+        ActivityScenario.launch(TestAssistedAndInjectedViewModelsActivity.class)) {
+      scenario.onActivity(
+          activity -> {
+            assertThat(activity.injectedVm.one).isNotNull();
+            assertThat(activity.assistedVm.s).isEqualTo("foo");
+          });
+    }
+  }
+
   @Test
   public void testNoCreationCallbacks() {
     Exception exception =
@@ -201,6 +213,28 @@ public class ViewModelAssistedTest {
     }
   }
 
+  @AndroidEntryPoint(FragmentActivity.class)
+  public static class TestAssistedAndInjectedViewModelsActivity
+      extends Hilt_ViewModelAssistedTest_TestAssistedAndInjectedViewModelsActivity {
+
+    MyInjectedViewModel injectedVm;
+    MyViewModel assistedVm;
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+      super.onCreate(savedInstanceState);
+      injectedVm = new ViewModelProvider(this).get(MyInjectedViewModel.class);
+      assistedVm =
+          new ViewModelProvider(
+                  getViewModelStore(),
+                  getDefaultViewModelProviderFactory(),
+                  HiltViewModelExtensions.withCreationCallback(
+                      getDefaultViewModelCreationExtras(),
+                      (MyViewModel.Factory factory) -> factory.create("foo")))
+              .get(MyViewModel.class);
+    }
+  }
+
   @AndroidEntryPoint(FragmentActivity.class)
   public static class TestNoCreationCallbacksActivity
       extends Hilt_ViewModelAssistedTest_TestNoCreationCallbacksActivity {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.android.internal.managers;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import android.content.Context;
+import android.os.Build;
+import android.view.View;
+import androidx.fragment.app.FragmentActivity;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import dagger.hilt.android.AndroidEntryPoint;
+import dagger.hilt.android.WithoutViewComponent;
+import dagger.hilt.android.scopes.ActivityScoped;
+import dagger.hilt.android.testing.HiltAndroidRule;
+import dagger.hilt.android.testing.HiltAndroidTest;
+import dagger.hilt.android.testing.HiltTestApplication;
+import dagger.hilt.internal.GeneratedComponentManager;
+import javax.inject.Inject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.annotation.Config;
+
+@HiltAndroidTest
+@RunWith(AndroidJUnit4.class)
+// Robolectric requires Java9 to run API 29 and above, so use API 28 instead
+@Config(sdk = Build.VERSION_CODES.P, application = HiltTestApplication.class)
+public final class ViewComponentManagerTest {
+  @ActivityScoped
+  static final class ActivityBinding {
+    @Inject
+    ActivityBinding() {}
+  }
+
+  /** An activity to create views in. */
+  @AndroidEntryPoint(FragmentActivity.class)
+  public static final class TestActivity extends Hilt_ViewComponentManagerTest_TestActivity {
+    @Inject ActivityBinding activityBinding;
+  }
+
+  /** A view that is injected from the activity's component. */
+  @WithoutViewComponent
+  @AndroidEntryPoint(View.class)
+  public static final class TestView extends Hilt_ViewComponentManagerTest_TestView {
+    @Inject ActivityBinding activityBinding;
+
+    TestView(Context context) {
+      super(context);
+    }
+  }
+
+  @Rule public HiltAndroidRule hiltRule = new HiltAndroidRule(this);
+
+  @Test
+  public void withoutViewComponent_injectedFromActivityComponent() {
+    try (ActivityScenario<TestActivity> scenario = ActivityScenario.launch(TestActivity.class)) {
+      scenario.onActivity(
+          activity -> {
+            TestView view1 = new TestView(activity);
+            TestView view2 = new TestView(activity);
+            assertThat(view1.generatedComponent()).isSameInstanceAs(activity.generatedComponent());
+            assertThat(view2.generatedComponent()).isSameInstanceAs(activity.generatedComponent());
+            assertThat(view1.activityBinding).isSameInstanceAs(activity.activityBinding);
+            assertThat(view2.activityBinding).isSameInstanceAs(activity.activityBinding);
+          });
+    }
+  }
+
+  @Test
+  public void withoutViewComponent_notSharedAcrossActivities() {
+    try (ActivityScenario<TestActivity> scenario1 = ActivityScenario.launch(TestActivity.class);
+        ActivityScenario<TestActivity> scenario2 = ActivityScenario.launch(TestActivity.class)) {
+      Object[] components = new Object[2];
+      scenario1.onActivity(activity -> components[0] = new TestView(activity).generatedComponent());
+      scenario2.onActivity(activity -> components[1] = new TestView(activity).generatedComponent());
+      assertThat(components[0]).isNotSameInstanceAs(components[1]);
+    }
+  }
+
+  @Test
+  public void viewComponent_createdForEachView() {
+    try (ActivityScenario<TestActivity> scenario = ActivityScenario.launch(TestActivity.class)) {
+      scenario.onActivity(
+          activity -> {
+            GeneratedComponentManager<Object> manager1 =
+                new ViewComponentManager(new View(activity), /* hasFragmentBindings= */ false);
+            GeneratedComponentManager<Object> manager2 =
+                new ViewComponentManager(new View(activity), /* hasFragmentBindings= */ false);
+            assertThat(manager1.generatedComponent())
+                .isNotSameInstanceAs(manager2.generatedComponent());
+          });
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.android.internal.testing;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class TestComponentDataSupplierTest {
+  /** A test class whose supplier is written by hand below instead of by the Hilt processor. */
+  static final class FakeTest {}
+
+  @Test
+  public void get_looksUpSupplierOncePerTestClass() {
+    TestComponentData first = TestComponentDataSupplier.get(FakeTest.class);
+    TestComponentData second = TestComponentDataSupplier.get(FakeTest.class);
+
+    assertThat(second).isSameInstanceAs(first);
+    assertThat(TestComponentDataSupplierTest_FakeTest_TestComponentDataSupplier.instances)
+        .isEqualTo(1);
+  }
+}
+
+/** Stands in for the supplier that the Hilt processor generates for {@code FakeTest}. */
+final class TestComponentDataSupplierTest_FakeTest_TestComponentDataSupplier
+    extends TestComponentDataSupplier {
+  static int instances = 0;
+
+  TestComponentDataSupplierTest_FakeTest_TestComponentDataSupplier() {
+    instances++;
+  }
+
+  @Override
+  protected TestComponentData get() {
+    return new TestComponentData(
+        false,
+        testInstance -> {},
+        Collections.emptySet(),
+        Collections.emptySet(),
+        (registeredModules, testInstance, autoAddModule) -> new Object());
+  }
+}
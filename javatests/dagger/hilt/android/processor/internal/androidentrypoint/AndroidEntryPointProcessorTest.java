@@ -212,4 +212,127 @@ public class AndroidEntryPointProcessorTest {
                       + "Use @HiltAndroidApp instead.");
             });
   }
+
+  @Test
+  public void withoutViewComponent_injectorInstalledInActivityComponent() {
+    Source testView =
+        HiltCompilerTests.javaSource(
+            "test.MyView",
+            "package test;",
+            "",
+            "import android.content.Context;",
+            "import android.view.View;",
+            "import dagger.hilt.android.AndroidEntryPoint;",
+            "import dagger.hilt.android.WithoutViewComponent;",
+            "",
+            "@WithoutViewComponent",
+            "@AndroidEntryPoint(View.class)",
+            "public class MyView extends Hilt_MyView {",
+            "  public MyView(Context context) {",
+            "    super(context);",
+            "  }",
+            "}");
+    HiltCompilerTests.hiltCompiler(testView)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath("test/Hilt_MyView.java")
+                  .contains("true /* useParentComponent */");
+              subject
+                  .generatedSourceFileWithPath("test/MyView_GeneratedInjector.java")
+                  .contains("@InstallIn(ActivityComponent.class)");
+            });
+  }
+
+  @Test
+  public void withoutViewComponent_onActivity_fails() {
+    Source testActivity =
+        HiltCompilerTests.javaSource(
+            "test.MyActivity",
+            "package test;",
+            "",
+            "import androidx.activity.ComponentActivity;",
+            "import dagger.hilt.android.AndroidEntryPoint;",
+            "import dagger.hilt.android.WithoutViewComponent;",
+            "",
+            "@WithoutViewComponent",
+            "@AndroidEntryPoint(ComponentActivity.class)",
+            "public class MyActivity extends Hilt_MyActivity {}");
+    HiltCompilerTests.hiltCompiler(testActivity)
+        .compile(
+            subject -> {
+              subject.compilationDidFail();
+              subject.hasErrorContaining(
+                  "@WithoutViewComponent can only be used on @AndroidEntryPoint views.");
+            });
+  }
+
+  @Test
+  public void withoutViewComponent_dependsOnViewScopedBinding_fails() {
+    Source viewScopedBinding =
+        HiltCompilerTests.javaSource(
+            "test.ViewScopedBinding",
+            "package test;",
+            "",
+            "import dagger.hilt.android.scopes.ViewScoped;",
+            "import javax.inject.Inject;",
+            "",
+            "@ViewScoped",
+            "public class ViewScopedBinding {",
+            "  @Inject ViewScopedBinding() {}",
+            "}");
+    HiltCompilerTests.hiltCompiler(
+            testApp(), viewScopedBinding, viewWithoutViewComponentInjecting("ViewScopedBinding"))
+        .compile(
+            subject -> {
+              subject.compilationDidFail();
+              subject.hasErrorContaining("may not reference bindings with different scopes");
+              subject.hasErrorContaining("@ViewScoped class");
+            });
+  }
+
+  @Test
+  public void withoutViewComponent_dependsOnView_fails() {
+    HiltCompilerTests.hiltCompiler(testApp(), viewWithoutViewComponentInjecting("View"))
+        .compile(
+            subject -> {
+              subject.compilationDidFail();
+              subject.hasErrorContaining("android.view.View cannot be provided");
+            });
+  }
+
+  private static Source testApp() {
+    return HiltCompilerTests.javaSource(
+        "test.MyApp",
+        "package test;",
+        "",
+        "import android.app.Application;",
+        "import dagger.hilt.android.HiltAndroidApp;",
+        "",
+        "@HiltAndroidApp(Application.class)",
+        "public class MyApp extends Hilt_MyApp {}");
+  }
+
+  private static Source viewWithoutViewComponentInjecting(String dependency) {
+    return HiltCompilerTests.javaSource(
+        "test.MyView",
+        "package test;",
+        "",
+        "import android.content.Context;",
+        "import android.view.View;",
+        "import dagger.hilt.android.AndroidEntryPoint;",
+        "import dagger.hilt.android.WithoutViewComponent;",
+        "import javax.inject.Inject;",
+        "",
+        "@WithoutViewComponent",
+        "@AndroidEntryPoint(View.class)",
+        "public class MyView extends Hilt_MyView {",
+        "  @Inject " + dependency + " dependency;",
+        "",
+        "  public MyView(Context context) {",
+        "    super(context);",
+        "  }",
+        "}");
+  }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.processor.internal.root;
+
+import androidx.room.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.truth.StringSubject;
+import dagger.hilt.android.testing.compile.HiltCompilerTests;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the root reads aggregated deps from the index of {@link IndexedPreviousCompilation}
+ * together with deps that aren't indexed.
+ */
+@RunWith(JUnit4.class)
+public final class AggregatedDepsIndexTest {
+  private static final String DEPS_PREFIX = "_dagger_hilt_processor_internal_root_";
+
+  @Test
+  public void indexedAndUnindexedDeps() {
+    Source app =
+        HiltCompilerTests.javaSource(
+            "test.TestApplication",
+            "package test;",
+            "",
+            "import android.app.Application;",
+            "import dagger.hilt.android.HiltAndroidApp;",
+            "",
+            "@HiltAndroidApp(Application.class)",
+            "public class TestApplication extends Hilt_TestApplication {}");
+    Source sourceEntryPoint =
+        HiltCompilerTests.javaSource(
+            "test.SourceEntryPoint",
+            "package test;",
+            "",
+            "import dagger.hilt.EntryPoint;",
+            "import dagger.hilt.InstallIn;",
+            "import dagger.hilt.components.SingletonComponent;",
+            "",
+            "@EntryPoint",
+            "@InstallIn(SingletonComponent.class)",
+            "public interface SourceEntryPoint {}");
+    Source legacyEntryPoint =
+        HiltCompilerTests.javaSource(
+            "test.LegacyEntryPoint",
+            "package test;",
+            "",
+            "public interface LegacyEntryPoint {}");
+    // Hilt versions < 2.35 generated package-private aggregated deps, which need a public proxy
+    // to be referenced from @ComponentTreeDeps.
+    Source legacyAggregatedDeps =
+        HiltCompilerTests.javaSource(
+            "hilt_aggregated_deps._test_LegacyEntryPoint",
+            "package hilt_aggregated_deps;",
+            "",
+            "import dagger.hilt.processor.internal.aggregateddeps.AggregatedDeps;",
+            "",
+            "@AggregatedDeps(",
+            "    components = \"dagger.hilt.components.SingletonComponent\",",
+            "    entryPoints = \"test.LegacyEntryPoint\")",
+            "class _test_LegacyEntryPoint {}");
+
+    HiltCompilerTests.hiltCompiler(app, sourceEntryPoint, legacyEntryPoint, legacyAggregatedDeps)
+        .withProcessorOptions(
+            ImmutableMap.of("dagger.hilt.aggregatedDepsIndex", Boolean.toString(true)))
+        .compile(
+            subject -> {
+              // IndexedEntryPoint requests the String bound by the package-private IndexedModule,
+              // so this also checks that the module's HiltWrapper_ module is installed.
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath(
+                      "hilt_aggregated_deps_index/_test_SourceEntryPoint.java")
+                  .contains("\"hilt_aggregated_deps._test_SourceEntryPoint\"");
+              subject
+                  .generatedSourceFileWithPath(
+                      "hilt_aggregated_deps/__test_LegacyEntryPoint.java")
+                  .contains("@AggregatedElementProxy(_test_LegacyEntryPoint.class)");
+
+              StringSubject componentTreeDeps =
+                  subject.generatedSourceFileWithPath(
+                      "test/TestApplication_ComponentTreeDeps.java");
+              componentTreeDeps.contains(
+                  DEPS_PREFIX + "IndexedPreviousCompilation_IndexedEntryPoint.class");
+              componentTreeDeps.contains(
+                  DEPS_PREFIX + "UnindexedPreviousCompilation_UnindexedEntryPoint.class");
+              componentTreeDeps.contains("_test_SourceEntryPoint.class");
+              componentTreeDeps.contains("__test_LegacyEntryPoint.class");
+
+              StringSubject components =
+                  subject.generatedSourceFileWithPath("test/TestApplication_HiltComponents.java");
+              components.contains("HiltWrapper_IndexedPreviousCompilation_IndexedModule.class");
+              components.contains("IndexedPreviousCompilation.IndexedEntryPoint,");
+              components.contains("UnindexedPreviousCompilation.UnindexedEntryPoint,");
+              components.contains("SourceEntryPoint,");
+              components.contains("LegacyEntryPoint,");
+            });
+  }
+}
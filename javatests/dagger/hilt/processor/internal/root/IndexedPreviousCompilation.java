@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.hilt.processor.internal.root;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.hilt.EntryPoint;
+import dagger.hilt.InstallIn;
+import dagger.hilt.components.SingletonComponent;
+
+/**
+ * Defines deps for {@link AggregatedDepsIndexTest} in a compilation that writes an aggregated deps
+ * index.
+ */
+public final class IndexedPreviousCompilation {
+
+  @EntryPoint
+  @InstallIn(SingletonComponent.class)
+  public interface IndexedEntryPoint {
+    String string();
+  }
+
+  // Package-private, so it's installed through a public HiltWrapper_ module.
+  @Module
+  @InstallIn(SingletonComponent.class)
+  static final class IndexedModule {
+    @Provides
+    static String provideString() {
+      return "";
+    }
+  }
+
+  private IndexedPreviousCompilation() {}
+}
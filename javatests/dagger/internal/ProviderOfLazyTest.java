@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Lazy;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ProviderOfLazyTest {
+  @Test
+  public void unscopedProvider_returnsNewLazies() {
+    AtomicInteger count = new AtomicInteger();
+    Provider<Lazy<Integer>> providerOfLazy = ProviderOfLazy.create(count::incrementAndGet);
+
+    Lazy<Integer> first = providerOfLazy.get();
+    Lazy<Integer> second = providerOfLazy.get();
+    assertThat(first).isNotSameInstanceAs(second);
+    assertThat(first.get()).isEqualTo(1);
+    assertThat(first.get()).isEqualTo(1);
+    assertThat(second.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void scopedProvider_returnsSameLazy() {
+    AtomicInteger count = new AtomicInteger();
+    Provider<Integer> scoped = DoubleCheck.provider(count::incrementAndGet);
+    Provider<Lazy<Integer>> providerOfLazy = ProviderOfLazy.create(scoped);
+
+    assertThat(providerOfLazy.get()).isSameInstanceAs(scoped);
+    assertThat(providerOfLazy.get()).isSameInstanceAs(providerOfLazy.get());
+    assertThat(providerOfLazy.get().get()).isEqualTo(1);
+    assertThat(providerOfLazy.get().get()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import androidx.room.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import dagger.testing.compile.CompilerTests;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Compiles many large root components in a single round, and checks with the processing statistics
+ * how many component descriptors are still cached at the end of the round.
+ */
+@RunWith(JUnit4.class)
+public final class ComponentProcessingMemoryTest {
+  private static final int COMPONENTS = 25;
+  private static final int BINDINGS_PER_COMPONENT = 200;
+
+  @Test
+  public void releaseComponentDescriptors() {
+    compile(
+        ImmutableMap.of(
+            "dagger.releaseComponentDescriptors", "enabled",
+            "dagger.reportProcessingStatistics", "enabled"),
+        /* cachedDescriptors= */ 0);
+  }
+
+  @Test
+  public void releaseComponentDescriptors_withParallelComponentGeneration() {
+    // Each component is still written as soon as it is generated.
+    compile(
+        ImmutableMap.of(
+            "dagger.releaseComponentDescriptors", "enabled",
+            "dagger.parallelComponentGeneration", "enabled",
+            "dagger.reportProcessingStatistics", "enabled"),
+        /* cachedDescriptors= */ 0);
+  }
+
+  @Test
+  public void componentDescriptorsCachedUntilEndOfRound() {
+    compile(
+        ImmutableMap.of("dagger.reportProcessingStatistics", "enabled"),
+        /* cachedDescriptors= */ COMPONENTS);
+  }
+
+  private static void compile(
+      ImmutableMap<String, String> processingOptions, int cachedDescriptors) {
+    ImmutableList.Builder<Source> sources = ImmutableList.builder();
+    for (int component = 0; component < COMPONENTS; component++) {
+      sources.add(bindings(component), component(component));
+    }
+
+    CompilerTests.daggerCompiler(sources.build())
+        .withProcessingOptions(processingOptions)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath(
+                      String.format("test/DaggerComponent%d.java", COMPONENTS - 1))
+                  .contains(String.format("final class DaggerComponent%d", COMPONENTS - 1));
+              subject.hasNoteContaining("bytes allocated for test.Component0: ");
+              subject.hasNoteContaining(
+                  "component descriptors cached at the end of a round: " + cachedDescriptors);
+            });
+  }
+
+  // Each binding depends on the one before it and on the one at half its index, so that the graph
+  // is neither a single chain nor a tree.
+  private static Source bindings(int component) {
+    ImmutableList.Builder<String> lines = ImmutableList.builder();
+    lines.add(
+        "package test;",
+        "",
+        "import javax.inject.Inject;",
+        "import javax.inject.Provider;",
+        "",
+        String.format("final class Bindings%d {", component),
+        "  static final class Dep0 {",
+        "    @Inject Dep0() {}",
+        "  }");
+    for (int i = 1; i < BINDINGS_PER_COMPONENT; i++) {
+      lines.add(
+          String.format("  static final class Dep%d {", i),
+          String.format(
+              "    @Inject Dep%d(Dep%d previous, Provider<Dep%d> half) {}", i, i - 1, i / 2),
+          "  }");
+    }
+    lines.add("}");
+    return CompilerTests.javaSource(
+        String.format("test.Bindings%d", component), lines.build().toArray(new String[0]));
+  }
+
+  private static Source component(int component) {
+    return CompilerTests.javaSource(
+        String.format("test.Component%d", component),
+        "package test;",
+        "",
+        "import dagger.Component;",
+        "",
+        "@Component",
+        String.format("interface Component%d {", component),
+        String.format("  Bindings%d.Dep%d dep();", component, BINDINGS_PER_COMPONENT - 1),
+        "}");
+  }
+}
@@ -2159,4 +2159,57 @@ public class ComponentProcessorTest {
         .withProcessingOptions(compilerMode.processorOptions())
         .compile(subject -> subject.hasErrorCount(0));
   }
+
+  @Test
+  public void parallelComponentGeneration() {
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject Foo() {}",
+            "}");
+    Source firstComponent =
+        CompilerTests.javaSource(
+            "test.FirstComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component",
+            "interface FirstComponent {",
+            "  Foo foo();",
+            "}");
+    Source secondComponent =
+        CompilerTests.javaSource(
+            "test.SecondComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component",
+            "interface SecondComponent {",
+            "  Foo foo();",
+            "}");
+
+    CompilerTests.daggerCompiler(foo, firstComponent, secondComponent)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.parallelComponentGeneration", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath("test/DaggerFirstComponent.java")
+                  .contains("final class DaggerFirstComponent");
+              subject
+                  .generatedSourceFileWithPath("test/DaggerSecondComponent.java")
+                  .contains("final class DaggerSecondComponent");
+            });
+  }
 }
@@ -20,6 +20,7 @@ import static com.google.common.truth.Truth.assertAbout;
 
 import androidx.room.compiler.processing.util.Source;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.Subject;
 import com.google.common.truth.Truth;
@@ -79,6 +80,7 @@ final class DaggerModuleMethodSubject extends Subject {
               "import javax.inject.*;");
   private String declaration;
   private ImmutableList<Source> additionalSources = ImmutableList.of();
+  private ImmutableMap<String, String> processingOptions = ImmutableMap.of();
 
   private DaggerModuleMethodSubject(FailureMetadata failureMetadata, String subject) {
     super(failureMetadata, subject);
@@ -132,6 +134,12 @@ final class DaggerModuleMethodSubject extends Subject {
     return this;
   }
 
+  /** Processing options to compile the module with. */
+  DaggerModuleMethodSubject withProcessingOptions(ImmutableMap<String, String> processingOptions) {
+    this.processingOptions = processingOptions;
+    return this;
+  }
+
   /**
    * Fails if compiling the module with the method doesn't report an error at the method
    * declaration whose message contains {@code errorSubstring}.
@@ -141,6 +149,7 @@ final class DaggerModuleMethodSubject extends Subject {
     Source module = CompilerTests.javaSource("test.TestModule", source);
     CompilerTests.daggerCompiler(
             ImmutableList.<Source>builder().add(module).addAll(additionalSources).build())
+        .withProcessingOptions(processingOptions)
         .compile(
             subject ->
                 subject
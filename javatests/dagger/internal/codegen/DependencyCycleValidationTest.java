@@ -825,4 +825,62 @@ public class DependencyCycleValidationTest {
                   .onLineContaining("interface C");
             });
   }
+
+  @Test
+  public void cycleBrokenByProvider_rewireDelegateFactories() {
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "import javax.inject.Provider;",
+            "",
+            "final class Foo {",
+            "  @Inject Foo(Provider<Bar> barProvider) {}",
+            "}");
+    Source bar =
+        CompilerTests.javaSource(
+            "test.Bar",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Bar {",
+            "  @Inject Bar(Foo foo) {}",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component",
+            "interface TestComponent {",
+            "  Provider<Foo> foo();",
+            "}");
+
+    CompilerTests.daggerCompiler(foo, bar, component)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.rewireDelegateFactories", "enabled")
+                .put("dagger.reportProcessingStatistics", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              if (compilerMode == CompilerMode.DEFAULT_MODE) {
+                subject
+                    .generatedSourceFileWithPath("test/DaggerTestComponent.java")
+                    .contains(
+                        "DelegateFactory.setDelegate(fooProvider, fooProvider = "
+                            + "Foo_Factory.create(barProvider));");
+                subject.hasNoteContaining(
+                    "delegate factories in test.DaggerTestComponent.TestComponentImpl: 1");
+              }
+            });
+  }
 }
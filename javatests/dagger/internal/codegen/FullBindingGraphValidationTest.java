@@ -18,9 +18,15 @@ package dagger.internal.codegen;
 
 import static dagger.internal.codegen.TestUtils.endsWithMessage;
 
+import androidx.room.compiler.processing.XProcessingEnv;
 import androidx.room.compiler.processing.util.Source;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.truth.StringSubject;
+import com.google.common.truth.Subject;
 import dagger.testing.compile.CompilerTests;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -521,4 +527,106 @@ public final class FullBindingGraphValidationTest {
                       + " should be used; prefer -Adagger.fullBindingGraphValidation");
             });
   }
+
+  @Test
+  public void reachableBindingGraphDerivedFromFullBindingGraph_generatesSameComponent() {
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.BindsOptionalOf;",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoSet;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Module",
+            "interface TestModule {",
+            "  @Provides @Singleton static String string(Foo foo) {",
+            "    return foo.toString();",
+            "  }",
+            "",
+            "  @Provides @IntoSet static String stringIntoSet(Foo foo) {",
+            "    return foo.toString();",
+            "  }",
+            "",
+            "  @Provides static Long unused(Unused unused) {",
+            "    return 0L;",
+            "  }",
+            "",
+            "  @BindsOptionalOf Integer optionalInteger();",
+            "}");
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject Foo() {}",
+            "}");
+    Source unused =
+        CompilerTests.javaSource(
+            "test.Unused",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Unused {",
+            "  @Inject Unused(Foo foo) {}",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import java.util.Optional;",
+            "import java.util.Set;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  String string();",
+            "  Set<String> strings();",
+            "  Optional<Integer> optionalInteger();",
+            "}");
+
+    Map<XProcessingEnv.Backend, String> componentWithoutFullBindingGraphValidation =
+        new HashMap<>();
+    CompilerTests.daggerCompiler(module, foo, unused, component)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              componentWithoutFullBindingGraphValidation.put(
+                  CompilerTests.backend(subject),
+                  contents(subject.generatedSourceFileWithPath("test/DaggerTestComponent.java")));
+            });
+    CompilerTests.daggerCompiler(module, foo, unused, component)
+        .withProcessingOptions(ImmutableMap.of("dagger.fullBindingGraphValidation", "ERROR"))
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath("test/DaggerTestComponent.java")
+                  .isEqualTo(
+                      componentWithoutFullBindingGraphValidation.get(
+                          CompilerTests.backend(subject)));
+            });
+  }
+
+  // Use reflection to get the contents of a generated source file, since the subject doesn't expose
+  // them directly.
+  private static String contents(StringSubject subject) {
+    try {
+      Method protectedActualMethod = Subject.class.getDeclaredMethod("actual");
+      protectedActualMethod.setAccessible(true);
+      return (String) protectedActualMethod.invoke(subject);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
@@ -1085,6 +1085,31 @@ public final class InjectConstructorFactoryGeneratorTest {
             });
   }
 
+  @Test
+  public void parallelFactoryGeneration() {
+    Source file =
+        CompilerTests.javaSource(
+            "test.SimpleType",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class SimpleType {",
+            "  @Inject SimpleType() {}",
+            "}");
+    CompilerTests.daggerCompiler(file)
+        .withProcessingOptions(
+            ImmutableMap.of(
+                "dagger.parallelFactoryGeneration", "enabled",
+                "dagger.reportProcessingStatistics", "enabled"))
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/SimpleType_Factory"));
+              subject.hasNoteContaining("bytes generated for @Inject types: ");
+            });
+  }
+
   @Test public void simpleComponentWithNesting() {
     Source file =
         CompilerTests.javaSource(
@@ -239,6 +239,25 @@ public class KeyFactoryTest {
     assertThat(integerKey.toString()).isEqualTo("java.lang.Integer");
   }
 
+  @Test public void equalKeysAreInterned() {
+    XTypeElement primitiveHolder =
+        processingEnv.requireTypeElement(PrimitiveTypes.class.getCanonicalName());
+    XMethodElement intMethod = getOnlyElement(primitiveHolder.getDeclaredMethods());
+    XTypeElement boxedPrimitiveHolder =
+        processingEnv.requireTypeElement(BoxedPrimitiveTypes.class.getCanonicalName());
+    XMethodElement integerMethod = getOnlyElement(boxedPrimitiveHolder.getDeclaredMethods());
+
+    Key intKey = keyFactory.forProvidesMethod(intMethod, primitiveHolder);
+    Key integerKey = keyFactory.forProvidesMethod(integerMethod, boxedPrimitiveHolder);
+    assertThat(intKey).isSameInstanceAs(integerKey);
+    assertThat(intKey.type()).isSameInstanceAs(integerKey.type());
+
+    keyFactory.clearCache();
+    Key integerKeyAfterClear = keyFactory.forProvidesMethod(integerMethod, boxedPrimitiveHolder);
+    assertThat(integerKeyAfterClear).isEqualTo(intKey);
+    assertThat(integerKeyAfterClear).isNotSameInstanceAs(intKey);
+  }
+
   @Test public void forProducesMethod() {
     XTypeElement moduleElement =
         processingEnv.requireTypeElement(ProducesMethodsModule.class.getCanonicalName());
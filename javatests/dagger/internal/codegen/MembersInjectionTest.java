@@ -1664,6 +1664,142 @@ public class MembersInjectionTest {
             });
   }
 
+  @Test
+  public void flattenedMembersInjection() throws Exception {
+    Source otherBase =
+        CompilerTests.javaSource(
+            "other.OtherBase",
+            "package other;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "public class OtherBase {",
+            "  @Inject String otherField;",
+            "}");
+    Source base =
+        CompilerTests.javaSource(
+            "test.Base",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "class Base extends other.OtherBase {",
+            "  @Inject String baseField;",
+            "",
+            "  @Inject void baseMethod(Integer integer) {}",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Child extends Base {",
+            "  @Inject String childField;",
+            "}");
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides static String string() {",
+            "    return \"\";",
+            "  }",
+            "",
+            "  @Provides static Integer integer() {",
+            "    return 1;",
+            "  }",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  void inject(Child child);",
+            "}");
+
+    CompilerTests.daggerCompiler(otherBase, base, child, module, component)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.flattenedMembersInjection", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              // The package-private field of OtherBase is still injected through its
+              // MembersInjector, but the sites that are accessible are injected directly.
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
+  @Test
+  public void flattenedMembersInjection_packagePrivateMethodOfSupertypeInOtherPackage()
+      throws Exception {
+    Source dep =
+        CompilerTests.javaSource(
+            "test.Dep",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Dep {",
+            "  @Inject Dep() {}",
+            "}");
+    Source base =
+        CompilerTests.javaSource(
+            "test.Base",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "public class Base {",
+            "  @Inject void baseMethod(Dep dep) {}",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "other.Child",
+            "package other;",
+            "",
+            "public final class Child extends test.Base {}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import other.Child;",
+            "",
+            "@Component",
+            "interface TestComponent {",
+            "  void inject(Child child);",
+            "}");
+
+    CompilerTests.daggerCompiler(dep, base, child, component)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.flattenedMembersInjection", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              // Child doesn't inherit baseMethod since it's in another package, so the method is
+              // called through a cast to Base.
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
   private Source stripJetbrainsNullable(Source source) {
     return CompilerTests.javaSource(
         ((Source.JavaSource) source).getQName(),
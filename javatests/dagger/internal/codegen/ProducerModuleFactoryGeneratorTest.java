@@ -27,6 +27,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 import dagger.testing.compile.CompilerTests;
 import dagger.testing.golden.GoldenFileRule;
 import java.lang.annotation.Retention;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Qualifier;
 import org.junit.Rule;
 import org.junit.Test;
@@ -35,6 +37,8 @@ import org.junit.runners.JUnit4;
 
 @RunWith(JUnit4.class)
 public class ProducerModuleFactoryGeneratorTest {
+  private static final ImmutableMap<String, String> COMPLETION_STAGE_PRODUCES_METHODS =
+      ImmutableMap.of("dagger.completionStageProducesMethods", "enabled");
 
   @Rule public GoldenFileRule goldenFileRule = new GoldenFileRule();
 
@@ -95,6 +99,22 @@ public class ProducerModuleFactoryGeneratorTest {
         .hasError("@Produces methods cannot return a raw ListenableFuture");
   }
 
+  @Test
+  public void producesMethodReturnRawCompletionStage() {
+    assertThatProductionModuleMethod("@Produces CompletionStage produceRaw() {}")
+        .importing(CompletionStage.class)
+        .withProcessingOptions(COMPLETION_STAGE_PRODUCES_METHODS)
+        .hasError("@Produces methods cannot return a raw CompletionStage");
+  }
+
+  @Test
+  public void producesMethodReturnRawCompletableFuture() {
+    assertThatProductionModuleMethod("@Produces CompletableFuture produceRaw() {}")
+        .importing(CompletableFuture.class)
+        .withProcessingOptions(COMPLETION_STAGE_PRODUCES_METHODS)
+        .hasError("@Produces methods cannot return a raw CompletableFuture");
+  }
+
   @Test public void producesMethodReturnWildcardFuture() {
     assertThatProductionModuleMethod("@Produces ListenableFuture<?> produceRaw() {}")
         .importing(ListenableFuture.class)
@@ -420,6 +440,49 @@ public class ProducerModuleFactoryGeneratorTest {
             });
   }
 
+  @Test
+  public void producesMethodCompletionStage_bindsStageByDefault() {
+    CompilerTests.daggerCompiler(completionStageModule())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath("test/TestModule_ProduceStringFactory.java")
+                  .contains("immediateFuture(module.produceString())");
+            });
+  }
+
+  @Test
+  public void producesMethodCompletionStage_bindsValueWithOption() {
+    CompilerTests.daggerCompiler(completionStageModule())
+        .withProcessingOptions(COMPLETION_STAGE_PRODUCES_METHODS)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedSourceFileWithPath("test/TestModule_ProduceStringFactory.java")
+                  .contains("return Producers.fromCompletionStage(module.produceString());");
+            });
+  }
+
+  private static Source completionStageModule() {
+    return CompilerTests.javaSource(
+        "test.TestModule",
+        "package test;",
+        "",
+        "import dagger.producers.ProducerModule;",
+        "import dagger.producers.Produces;",
+        "import java.util.concurrent.CompletableFuture;",
+        "import java.util.concurrent.CompletionStage;",
+        "",
+        "@ProducerModule",
+        "final class TestModule {",
+        "  @Produces CompletionStage<String> produceString() {",
+        "    return CompletableFuture.completedFuture(\"\");",
+        "  }",
+        "}");
+  }
+
   @Test
   public void producesMethodMultipleQualifiersOnMethod() {
     assertThatProductionModuleMethod(
@@ -18,6 +18,7 @@ package dagger.internal.codegen;
 
 
 import androidx.room.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import dagger.testing.compile.CompilerTests;
 import dagger.testing.golden.GoldenFileRule;
@@ -308,6 +309,109 @@ public class ProductionComponentProcessorTest {
             });
   }
 
+  @Test
+  public void qualifiedProducerModule_runsOnProductionExecutorByDefault() {
+    CompilerTests.daggerCompiler(qualifiedProducerModuleComponent())
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(subject -> subject.hasErrorCount(0));
+  }
+
+  @Test
+  public void qualifiedProducerModule_withQualifiedExecutors_requiresQualifiedExecutor() {
+    CompilerTests.daggerCompiler(qualifiedProducerModuleComponent())
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.qualifiedProducerModuleExecutors", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> subject.hasErrorContaining("@TestClass.Slow Executor cannot be provided"));
+  }
+
+  @Test
+  public void qualifiedProducerModule_withQualifiedExecutors_unscopedExecutor() {
+    CompilerTests.daggerCompiler(
+            qualifiedProducerModuleComponent("    @Provides @Slow Executor slowExecutor() {"))
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.qualifiedProducerModuleExecutors", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining(
+                  "@TestClass.Slow Executor is the executor of a qualified @ProducerModule, so it "
+                      + "must be scoped");
+            });
+  }
+
+  @Test
+  public void qualifiedProducerModule_withQualifiedExecutors_scopedExecutor() {
+    CompilerTests.daggerCompiler(
+            qualifiedProducerModuleComponent(
+                "    @Provides @ProductionScope @Slow Executor slowExecutor() {"))
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.qualifiedProducerModuleExecutors", "enabled")
+                .buildOrThrow())
+        .compile(subject -> subject.hasErrorCount(0));
+  }
+
+  private static Source qualifiedProducerModuleComponent(String... slowExecutorMethod) {
+    ImmutableList.Builder<String> lines = ImmutableList.builder();
+    lines.add(
+        "package test;",
+        "",
+        "import com.google.common.util.concurrent.ListenableFuture;",
+        "import com.google.common.util.concurrent.MoreExecutors;",
+        "import dagger.Module;",
+        "import dagger.Provides;",
+        "import dagger.producers.ProducerModule;",
+        "import dagger.producers.Produces;",
+        "import dagger.producers.Production;",
+        "import dagger.producers.ProductionComponent;",
+        "import dagger.producers.ProductionScope;",
+        "import java.util.concurrent.Executor;",
+        "import javax.inject.Qualifier;",
+        "",
+        "final class TestClass {",
+        "  @Qualifier @interface Slow {}",
+        "",
+        "  interface A {}",
+        "",
+        "  @Module",
+        "  static final class ExecutorModule {",
+        "    @Provides @Production Executor executor() {",
+        "      return MoreExecutors.directExecutor();",
+        "    }");
+    if (slowExecutorMethod.length > 0) {
+      lines
+          .add("")
+          .add(slowExecutorMethod)
+          .add("      return MoreExecutors.directExecutor();", "    }");
+    }
+    lines.add(
+        "  }",
+        "",
+        "  @ProducerModule",
+        "  @Slow",
+        "  static final class AModule {",
+        "    @Produces ListenableFuture<A> a() {",
+        "      return null;",
+        "    }",
+        "  }",
+        "",
+        "  @ProductionComponent(modules = {AModule.class, ExecutorModule.class})",
+        "  interface SimpleComponent {",
+        "    ListenableFuture<A> a();",
+        "  }",
+        "}");
+    return CompilerTests.javaSource("test.TestClass", lines.build().toArray(new String[0]));
+  }
+
+
   @Test public void nullableProducersAreNotErrors() {
     Source component =
         CompilerTests.javaSource("test.TestClass",
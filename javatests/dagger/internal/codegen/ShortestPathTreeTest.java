@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.MutableGraph;
+import dagger.internal.codegen.extension.DaggerGraphs;
+import dagger.internal.codegen.extension.ShortestPathTree;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ShortestPathTreeTest {
+  // a -> b -> c -> d -> e
+  //      x -------> d
+  //                 y -> e
+  private static MutableGraph<String> graph() {
+    MutableGraph<String> graph = GraphBuilder.directed().build();
+    graph.putEdge("a", "b");
+    graph.putEdge("b", "c");
+    graph.putEdge("c", "d");
+    graph.putEdge("d", "e");
+    graph.putEdge("x", "d");
+    graph.putEdge("y", "e");
+    graph.addNode("unreachable");
+    return graph;
+  }
+
+  @Test
+  public void singleSource_matchesShortestPath() {
+    MutableGraph<String> graph = graph();
+    ShortestPathTree<String> tree = ShortestPathTree.create(graph, ImmutableList.of("a"));
+
+    for (String node : graph.nodes()) {
+      assertThat(tree.pathTo(node)).isEqualTo(DaggerGraphs.shortestPath(graph, "a", node));
+    }
+    assertThat(tree.pathTo("e")).containsExactly("a", "b", "c", "d", "e").inOrder();
+  }
+
+  @Test
+  public void multipleSources_closestSourceWins() {
+    ShortestPathTree<String> tree = ShortestPathTree.create(graph(), ImmutableList.of("a", "x"));
+
+    assertThat(tree.pathTo("c")).containsExactly("a", "b", "c").inOrder();
+    assertThat(tree.pathTo("e")).containsExactly("x", "d", "e").inOrder();
+    assertThat(tree.source("e").get()).isEqualTo("x");
+  }
+
+  @Test
+  public void multipleSources_tiesGoToEarlierSource() {
+    assertThat(ShortestPathTree.create(graph(), ImmutableList.of("d", "y")).source("e").get())
+        .isEqualTo("d");
+    assertThat(ShortestPathTree.create(graph(), ImmutableList.of("y", "d")).source("e").get())
+        .isEqualTo("y");
+  }
+
+  @Test
+  public void unreachableNode() {
+    ShortestPathTree<String> tree = ShortestPathTree.create(graph(), ImmutableList.of("a"));
+
+    assertThat(tree.isReachable("unreachable")).isFalse();
+    assertThat(tree.pathTo("unreachable")).isEmpty();
+    assertThat(tree.source("unreachable").isPresent()).isFalse();
+  }
+}
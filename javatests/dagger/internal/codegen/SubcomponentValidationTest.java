@@ -17,6 +17,7 @@
 package dagger.internal.codegen;
 
 import androidx.room.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableMap;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 import dagger.internal.codegen.javapoet.TypeNames;
@@ -882,4 +883,74 @@ public class SubcomponentValidationTest {
             subject.hasWarningCount(0);
           });
   }
+
+  @Test
+  public void siblingSubcomponentsShareRequiresResolutionChecker() {
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject Foo(String string) {}",
+            "}");
+    Source parent =
+        CompilerTests.javaSource(
+            "test.Parent",
+            "package test;",
+            "",
+            "import dagger.BindsInstance;",
+            "import dagger.Component;",
+            "",
+            "@Component",
+            "interface Parent {",
+            "  Foo foo();",
+            "  FirstChild firstChild();",
+            "  SecondChild secondChild();",
+            "",
+            "  @Component.Factory",
+            "  interface Factory {",
+            "    Parent create(@BindsInstance String string);",
+            "  }",
+            "}");
+    Source firstChild =
+        CompilerTests.javaSource(
+            "test.FirstChild",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface FirstChild {",
+            "  Foo foo();",
+            "}");
+    Source secondChild =
+        CompilerTests.javaSource(
+            "test.SecondChild",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "",
+            "@Subcomponent",
+            "interface SecondChild {",
+            "  Foo foo();",
+            "}");
+
+    CompilerTests.daggerCompiler(foo, parent, firstChild, secondChild)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.useBindingGraphFix", "enabled")
+                .put("dagger.reportProcessingStatistics", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasNoteContaining(
+                  "requires-resolution checkers shared by sibling components: ");
+              subject.hasNoteContaining("requires-resolution checks served from the cache: ");
+            });
+  }
 }
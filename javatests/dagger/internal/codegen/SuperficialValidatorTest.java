@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import androidx.room.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableMap;
+import dagger.testing.compile.CompilerTests;
+import java.util.Collection;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class SuperficialValidatorTest {
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> parameters() {
+    return CompilerMode.TEST_PARAMETERS;
+  }
+
+  private final CompilerMode compilerMode;
+
+  public SuperficialValidatorTest(CompilerMode compilerMode) {
+    this.compilerMode = compilerMode;
+  }
+
+  @Test
+  public void reportProcessingStatistics() {
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Foo {",
+            "  @Inject Foo() {}",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component",
+            "interface TestComponent {",
+            "  Foo foo();",
+            "}");
+
+    CompilerTests.daggerCompiler(foo, component)
+        .withProcessingOptions(processingStatisticsOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasNoteContaining("Dagger processing statistics:");
+              subject.hasNoteContaining("superficial validations: ");
+            });
+  }
+
+  @Test
+  public void typeValidatedInEarlierRound_isNotValidatedAgain() {
+    // The production component is validated by the monitoring module step in the first round. The
+    // component step defers it to the next round, where the generated monitoring module exists,
+    // and finds that it was already validated.
+    Source executorModule =
+        CompilerTests.javaSource(
+            "test.ExecutorModule",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.MoreExecutors;",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.producers.Production;",
+            "import java.util.concurrent.Executor;",
+            "",
+            "@Module",
+            "final class ExecutorModule {",
+            "  @Provides @Production static Executor executor() {",
+            "    return MoreExecutors.directExecutor();",
+            "  }",
+            "}");
+    Source producerModule =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces static String produceString() {",
+            "    return \"string\";",
+            "  }",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import com.google.common.util.concurrent.ListenableFuture;",
+            "import dagger.producers.ProductionComponent;",
+            "",
+            "@ProductionComponent(modules = {ExecutorModule.class, TestModule.class})",
+            "interface TestComponent {",
+            "  ListenableFuture<String> string();",
+            "}");
+
+    CompilerTests.daggerCompiler(executorModule, producerModule, component)
+        .withProcessingOptions(processingStatisticsOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSourceFileWithPath("test/DaggerTestComponent.java");
+              subject.hasNoteContaining("superficial validations served from an earlier round: ");
+            });
+  }
+
+  private ImmutableMap<String, String> processingStatisticsOptions() {
+    return ImmutableMap.<String, String>builder()
+        .putAll(compilerMode.processorOptions())
+        .put("dagger.reportProcessingStatistics", "enabled")
+        .buildOrThrow();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.appcds;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ClassListArchiverTest {
+  @Rule public TemporaryFolder tempFolderRule = new TemporaryFolder();
+
+  @Test
+  public void classList_mergesJdkAndComponentClassLists() throws IOException {
+    Path jdkClassList =
+        write(
+            tempFolderRule.getRoot().toPath().resolve("classlist"),
+            "# NOTE: Do not modify this file.",
+            "java/lang/Object",
+            "@lambda-proxy java/lang/Object run ()Ljava/lang/Runnable;",
+            "",
+            "java/lang/String");
+    Path first = tempFolderRule.newFolder("first").toPath();
+    write(
+        first.resolve("test/DaggerFirstComponent.classlist"),
+        "test/DaggerFirstComponent",
+        "test/FirstComponent",
+        "test/Foo_Factory");
+    Path second = tempFolderRule.newFolder("second").toPath();
+    write(
+        second.resolve("other/DaggerSecondComponent.classlist"),
+        "other/DaggerSecondComponent",
+        "  other/SecondComponent  ",
+        "test/Foo_Factory",
+        "java/lang/String");
+
+    assertThat(
+            ClassListArchiver.classList(
+                jdkClassList,
+                first + File.pathSeparator + second,
+                ImmutableList.of("test.DaggerFirstComponent", "other.DaggerSecondComponent")))
+        .containsExactly(
+            "java/lang/Object",
+            "java/lang/String",
+            "test/DaggerFirstComponent",
+            "test/FirstComponent",
+            "test/Foo_Factory",
+            "other/DaggerSecondComponent",
+            "other/SecondComponent")
+        .inOrder();
+  }
+
+  @Test
+  public void classList_missingJdkClassList() throws IOException {
+    Path classpath = tempFolderRule.newFolder("classpath").toPath();
+    write(
+        classpath.resolve("test/DaggerTestComponent.classlist"),
+        "test/DaggerTestComponent",
+        "test/TestComponent");
+
+    assertThat(
+            ClassListArchiver.classList(
+                tempFolderRule.getRoot().toPath().resolve("missing"),
+                classpath.toString(),
+                ImmutableList.of("test.DaggerTestComponent")))
+        .containsExactly("test/DaggerTestComponent", "test/TestComponent")
+        .inOrder();
+  }
+
+  @Test
+  public void classList_missingComponentClassList() throws IOException {
+    Path classpath = tempFolderRule.newFolder("classpath").toPath();
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                ClassListArchiver.classList(
+                    tempFolderRule.getRoot().toPath().resolve("missing"),
+                    classpath.toString(),
+                    ImmutableList.of("test.DaggerTestComponent")));
+    assertThat(exception)
+        .hasMessageThat()
+        .contains("No class list found for test.DaggerTestComponent");
+  }
+
+  private static Path write(Path path, String... lines) throws IOException {
+    Files.createDirectories(path.getParent());
+    return Files.write(path, ImmutableList.copyOf(lines), UTF_8);
+  }
+}
@@ -28,6 +28,7 @@ import dagger.producers.Produced;
 import dagger.producers.Producer;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -74,6 +75,51 @@ public class ProducersTest {
         .isInstanceOf(CancellationException.class);
   }
 
+  @Test public void fromCompletionStage_alreadyCompleted() throws Exception {
+    ListenableFuture<String> future =
+        Producers.fromCompletionStage(CompletableFuture.completedFuture("monkey"));
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo("monkey");
+  }
+
+  @Test public void fromCompletionStage_success() throws Exception {
+    CompletableFuture<String> stage = new CompletableFuture<>();
+    ListenableFuture<String> future = Producers.fromCompletionStage(stage);
+    assertThat(future.isDone()).isFalse();
+    stage.complete("monkey");
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo("monkey");
+  }
+
+  @Test public void fromCompletionStage_failureIsUnwrapped() throws Exception {
+    CompletableFuture<String> stage = new CompletableFuture<>();
+    ListenableFuture<Integer> future =
+        Producers.fromCompletionStage(stage.thenApply(String::length));
+    RuntimeException cause = new RuntimeException("monkey");
+    stage.completeExceptionally(cause);
+    assertThat(future.isDone()).isTrue();
+    try {
+      future.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isSameInstanceAs(cause);
+    }
+  }
+
+  @Test public void fromCompletionStage_cancelPropagatesBackwards() throws Exception {
+    CompletableFuture<String> stage = new CompletableFuture<>();
+    ListenableFuture<String> future = Producers.fromCompletionStage(stage);
+    future.cancel(false);
+    assertThat(stage.isCancelled()).isTrue();
+  }
+
+  @Test public void fromCompletionStage_cancelPropagatesForwards() throws Exception {
+    CompletableFuture<String> stage = new CompletableFuture<>();
+    ListenableFuture<String> future = Producers.fromCompletionStage(stage);
+    stage.cancel(false);
+    assertThat(future.isCancelled()).isTrue();
+  }
+
   private <T> ExecutionException getProducedException(Produced<T> produced) {
     try {
       T value = produced.get();
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@RunWith(JUnit4.class)
+public final class SamplingProductionComponentMonitorFactoryTest {
+  @Mock private ProductionComponentMonitor.Factory delegateFactory;
+  @Mock private ProductionComponentMonitor delegateMonitor;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(delegateFactory.create(any(Object.class))).thenReturn(delegateMonitor);
+  }
+
+  @Test
+  public void sampleRateOfOne_monitorsEveryComponent() {
+    ProductionComponentMonitor.Factory factory =
+        new SamplingProductionComponentMonitorFactory(delegateFactory, 1);
+    for (int i = 0; i < 5; i++) {
+      assertThat(factory.create(new Object())).isSameInstanceAs(delegateMonitor);
+    }
+    verify(delegateFactory, times(5)).create(any(Object.class));
+  }
+
+  @Test
+  public void monitorsOneInEverySampleRateComponents() {
+    ProductionComponentMonitor.Factory factory =
+        new SamplingProductionComponentMonitorFactory(delegateFactory, 3);
+    assertThat(factory.create(new Object())).isSameInstanceAs(delegateMonitor);
+    assertThat(factory.create(new Object())).isSameInstanceAs(ProductionComponentMonitor.noOp());
+    assertThat(factory.create(new Object())).isSameInstanceAs(ProductionComponentMonitor.noOp());
+    assertThat(factory.create(new Object())).isSameInstanceAs(delegateMonitor);
+    verify(delegateFactory, times(2)).create(any(Object.class));
+  }
+
+  @Test
+  public void nonPositiveSampleRate_throws() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SamplingProductionComponentMonitorFactory(delegateFactory, 0));
+  }
+}
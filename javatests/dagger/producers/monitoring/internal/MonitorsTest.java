@@ -98,6 +98,33 @@ public final class MonitorsTest {
         .isSameInstanceAs(ProducerMonitor.noOp());
   }
 
+  @Test
+  public void singleMonitor_noOpProductionComponentMonitor() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(ProductionComponentMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    assertThat(monitor).isSameInstanceAs(ProductionComponentMonitor.noOp());
+    assertThat(monitor.producerMonitorFor(ProducerToken.create(Object.class)))
+        .isSameInstanceAs(ProducerMonitor.noOp());
+  }
+
+  @Test
+  public void singleMonitor_noOpProducerMonitor() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitor);
+    when(mockProductionComponentMonitor.producerMonitorFor(nullable(ProducerToken.class)))
+        .thenReturn(ProducerMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    assertThat(monitor.producerMonitorFor(ProducerToken.create(Object.class)))
+        .isSameInstanceAs(ProducerMonitor.noOp());
+  }
+
   @Test
   public void singleMonitor_throwingProductionComponentMonitor() {
     when(mockProductionComponentMonitorFactory.create(any(Object.class)))